@@ -0,0 +1,167 @@
+package fr.hytale.loader.api.path;
+
+import fr.hytale.loader.api.Location;
+import fr.hytale.loader.api.region.BlockReader;
+import fr.hytale.loader.internal.BlockAccess;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PathSearch} on generated layouts, without a server.
+ * <p>
+ * Each layout is a flat floor with walls two blocks high, searched from one
+ * corner to the opposite one:
+ * </p>
+ * <ul>
+ * <li>{@code OPEN}: no walls.</li>
+ * <li>{@code SCATTERED}: 25% of the columns are walls.</li>
+ * <li>{@code MAZE}: a perfect maze with one-block corridors.</li>
+ * <li>{@code WALLED}: the goal is enclosed, so the whole floor is explored.</li>
+ * </ul>
+ * <p>
+ * Layouts are generated with a fixed seed, so runs are comparable.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PathSearchBenchmark {
+
+    private static final int SOLID = 1;
+    private static final int HEIGHT = 5;
+
+    @Param({ "OPEN", "SCATTERED", "MAZE", "WALLED" })
+    public String layout;
+
+    @Param({ "64", "256" })
+    public int size;
+
+    private boolean[][] walls;
+    private Pathfinder.Request request;
+    private PathSearch search;
+
+    @Setup
+    public void setup() {
+        walls = walls(layout, size);
+        PathOptions options = new PathOptions().setMaxNodes(Integer.MAX_VALUE).setSearchMargin(0);
+        request = new Pathfinder.Request(null, new Location((fr.hytale.loader.api.World) null, 0.5, 1, 0.5),
+                new Location((fr.hytale.loader.api.World) null, size - 0.5, 1, size - 0.5), options);
+        search = create();
+    }
+
+    /**
+     * The A* search alone.
+     */
+    @Benchmark
+    public Path search() {
+        return search.run();
+    }
+
+    /**
+     * Copying the blocks into the search grid, then searching, as done for
+     * every uncached request.
+     */
+    @Benchmark
+    public Path buildAndSearch() {
+        return create().run();
+    }
+
+    private PathSearch create() {
+        return new PathSearch(request, new int[] { 0, 0, 0 }, new int[] { size - 1, HEIGHT - 1, size - 1 },
+                this::visit);
+    }
+
+    private void visit(BlockReader.Visitor visitor) {
+        for (int x = 0; x < size; x++) {
+            for (int y = 0; y < HEIGHT; y++) {
+                for (int z = 0; z < size; z++) {
+                    boolean solid = y == 0 || (y <= 2 && walls[x][z]);
+                    visitor.visit(x, y, z, solid ? SOLID : BlockAccess.EMPTY);
+                }
+            }
+        }
+    }
+
+    static boolean[][] walls(String layout, int size) {
+        boolean[][] walls = new boolean[size][size];
+        Random random = new Random(42);
+        switch (layout) {
+            case "SCATTERED":
+                for (int x = 0; x < size; x++) {
+                    for (int z = 0; z < size; z++) {
+                        walls[x][z] = random.nextDouble() < 0.25;
+                    }
+                }
+                break;
+            case "MAZE":
+                maze(walls, size, random);
+                break;
+            case "WALLED":
+                for (int i = size - 4; i < size; i++) {
+                    walls[size - 4][i] = true;
+                    walls[i][size - 4] = true;
+                }
+                break;
+            default:
+                break;
+        }
+        // Start and goal stay free
+        walls[0][0] = false;
+        walls[size - 1][size - 1] = false;
+        return walls;
+    }
+
+    private static void maze(boolean[][] walls, int size, Random random) {
+        // Cells on even coordinates, carved from (0, 0) with an iterative backtracker
+        for (boolean[] column : walls) {
+            Arrays.fill(column, true);
+        }
+        // Cells stay below the last row and column, which are walls except next to the goal
+        int last = size - 1;
+        Deque<int[]> stack = new ArrayDeque<>();
+        walls[0][0] = false;
+        stack.push(new int[] { 0, 0 });
+        int[][] directions = { { 2, 0 }, { -2, 0 }, { 0, 2 }, { 0, -2 } };
+        while (!stack.isEmpty()) {
+            int[] cell = stack.peek();
+            int start = random.nextInt(4);
+            boolean carved = false;
+            for (int i = 0; i < 4 && !carved; i++) {
+                int[] direction = directions[(start + i) % 4];
+                int nx = cell[0] + direction[0];
+                int nz = cell[1] + direction[1];
+                if (nx >= 0 && nz >= 0 && nx < last && nz < last && walls[nx][nz]) {
+                    walls[cell[0] + direction[0] / 2][cell[1] + direction[1] / 2] = false;
+                    walls[nx][nz] = false;
+                    stack.push(new int[] { nx, nz });
+                    carved = true;
+                }
+            }
+            if (!carved) {
+                stack.pop();
+            }
+        }
+        // Connect the goal corner to the nearest cell
+        int cell = (last - 1) & ~1;
+        for (int i = cell; i < size; i++) {
+            walls[i][cell] = false;
+            walls[last][i] = false;
+        }
+    }
+}
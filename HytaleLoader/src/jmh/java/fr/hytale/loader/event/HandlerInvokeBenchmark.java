@@ -0,0 +1,177 @@
+package fr.hytale.loader.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Compares the cost of calling an event handler through
+ * {@link Method#invoke(Object, Object...)} and through the invokers created
+ * by {@link EventInvokerFactory}, with a direct call as the baseline.
+ * <p>
+ * The {@code isolated} benchmarks call a listener defined by another class
+ * loader, as the handlers of mods are: through reflection, through
+ * {@link EventInvokerFactory} without a lookup from the mod, and through a
+ * generated invoker using the listener's own lookup (as provided by its
+ * {@link HandlerIndex}).
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HandlerInvokeBenchmark {
+
+    private Listener listener;
+    private Event event;
+    private Consumer<Object> reflective;
+    private Consumer<Object> generated;
+
+    private LongSupplier isolated;
+    private Consumer<Object> isolatedReflective;
+    private Consumer<Object> isolatedNoLookup;
+    private Consumer<Object> isolatedGenerated;
+
+    @Setup
+    public void setup() throws Throwable {
+        listener = new Listener();
+        event = new Event();
+        Method method = Listener.class.getDeclaredMethod("onEvent", Event.class);
+        reflective = EventInvokerFactory.createReflective(listener, method);
+        generated = EventInvokerFactory.createGenerated(MethodHandles.lookup(), listener, method);
+
+        Class<?> isolatedClass = new IsolatingLoader(IsolatedListener.class).loadClass(
+                IsolatedListener.class.getName());
+        isolated = (LongSupplier) isolatedClass.getDeclaredConstructor().newInstance();
+        Method isolatedMethod = isolatedClass.getDeclaredMethod("onEvent", Event.class);
+        MethodHandles.Lookup isolatedLookup = (MethodHandles.Lookup) isolatedClass.getDeclaredMethod("lookup")
+                .invoke(null);
+        isolatedReflective = EventInvokerFactory.createReflective(isolated, isolatedMethod);
+        isolatedNoLookup = EventInvokerFactory.create(isolated, isolatedMethod);
+        isolatedGenerated = EventInvokerFactory.create(isolated, isolatedMethod, isolatedLookup);
+    }
+
+    @Benchmark
+    public long direct() {
+        listener.onEvent(event);
+        return listener.count;
+    }
+
+    @Benchmark
+    public long reflective() {
+        reflective.accept(event);
+        return listener.count;
+    }
+
+    @Benchmark
+    public long generated() {
+        generated.accept(event);
+        return listener.count;
+    }
+
+    @Benchmark
+    public long isolatedReflective() {
+        isolatedReflective.accept(event);
+        return isolated.getAsLong();
+    }
+
+    @Benchmark
+    public long isolatedNoLookup() {
+        isolatedNoLookup.accept(event);
+        return isolated.getAsLong();
+    }
+
+    @Benchmark
+    public long isolatedGenerated() {
+        isolatedGenerated.accept(event);
+        return isolated.getAsLong();
+    }
+
+    public static class Event {
+        private int value = 1;
+
+        public int getValue() {
+            return value;
+        }
+    }
+
+    public static class Listener {
+        private long count;
+
+        public void onEvent(Event event) {
+            count += event.value;
+        }
+    }
+
+    /**
+     * Listener defined again by {@link IsolatingLoader}, in the loader's own
+     * unnamed module.
+     */
+    public static class IsolatedListener implements LongSupplier {
+        private long count;
+
+        public static MethodHandles.Lookup lookup() {
+            return MethodHandles.lookup();
+        }
+
+        public void onEvent(Event event) {
+            count += event.getValue();
+        }
+
+        @Override
+        public long getAsLong() {
+            return count;
+        }
+    }
+
+    /**
+     * Defines one class from the bytes of its class file, and delegates the
+     * other classes to the benchmark's loader.
+     */
+    private static final class IsolatingLoader extends ClassLoader {
+        private final String name;
+
+        private IsolatingLoader(Class<?> isolated) {
+            super(isolated.getClassLoader());
+            this.name = isolated.getName();
+        }
+
+        @Override
+        protected Class<?> loadClass(String className, boolean resolve) throws ClassNotFoundException {
+            if (!className.equals(name)) {
+                return super.loadClass(className, resolve);
+            }
+            synchronized (getClassLoadingLock(className)) {
+                Class<?> loaded = findLoadedClass(className);
+                if (loaded != null) {
+                    return loaded;
+                }
+                String resource = className.replace('.', '/') + ".class";
+                try (InputStream in = getParent().getResourceAsStream(resource)) {
+                    if (in == null) {
+                        throw new ClassNotFoundException(className);
+                    }
+                    byte[] bytes = in.readAllBytes();
+                    return defineClass(className, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(className, e);
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package fr.hytale.loader.api;
 
+import fr.hytale.loader.api.asset.BlockKey;
+
 /**
  * Represents a block in the world.
  * <p>
@@ -96,6 +98,37 @@ public class Block {
         world.setBlock(x, y, z, identifier);
     }
 
+    /**
+     * Gets the type of this block as an interned key.
+     * 
+     * @return The block key
+     * @since 1.0.7
+     */
+    public BlockKey getTypeKey() {
+        return world.getBlockKey(x, y, z);
+    }
+
+    /**
+     * Sets the type of this block.
+     * 
+     * @param type The new block type
+     * @since 1.0.7
+     */
+    public void setType(BlockKey type) {
+        world.setBlock(x, y, z, type);
+    }
+
+    /**
+     * Checks the type of this block.
+     * 
+     * @param type The block type to compare with
+     * @return true if this block is of the given type
+     * @since 1.0.7
+     */
+    public boolean isType(BlockKey type) {
+        return getTypeKey() == type;
+    }
+
     @Override
     public String toString() {
         return "Block{world=" + world.getName() + ", x=" + x + ", y=" + y + ", z=" + z + ", type=" + getType() + "}";
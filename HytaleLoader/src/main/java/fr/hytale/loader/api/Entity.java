@@ -4,9 +4,12 @@ import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import fr.hytale.loader.internal.WorldTasks;
 
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -104,28 +107,40 @@ public class Entity {
             return null;
 
         try {
-            return getLocationInternal(world);
-        } catch (IllegalStateException e) {
-            String msg = e.getMessage();
-            if (msg != null && msg.contains("Assert not in thread")) {
-                final java.util.concurrent.CompletableFuture<Location> future = new java.util.concurrent.CompletableFuture<>();
-                world.execute(() -> {
-                    try {
-                        future.complete(getLocationInternal(world));
-                    } catch (Exception ex) {
-                        future.completeExceptionally(ex);
-                    }
-                });
-                try {
-                    return future.join();
-                } catch (Exception ex) {
-                    return null;
-                }
-            }
-            throw e;
+            return WorldTasks.call(world, () -> getLocationInternal(world));
+        } catch (Exception e) {
+            return null;
         }
     }
 
+    /**
+     * Gets the entity's current location without blocking.
+     * <p>
+     * The location is read on the entity's world thread, or inline if called
+     * from that thread. The future completes on the world thread.
+     * </p>
+     * 
+     * @return a future completed with the location, or with null if unavailable
+     * @since 1.0.7
+     */
+    public CompletableFuture<Location> getLocationAsync() {
+        return getLocationAsync(null);
+    }
+
+    /**
+     * Gets the entity's current location without blocking.
+     * 
+     * @param executor the executor completing the future (e.g. the plugin
+     *                 scheduler), or null to complete on the world thread
+     * @return a future completed with the location, or with null if unavailable
+     * @since 1.0.7
+     */
+    public CompletableFuture<Location> getLocationAsync(Executor executor) {
+        com.hypixel.hytale.server.core.universe.world.World world = nativeEntity != null ? nativeEntity.getWorld()
+                : null;
+        return WorldTasks.supply(world, () -> getLocationInternal(world), executor);
+    }
+
     private Location getLocationInternal(com.hypixel.hytale.server.core.universe.world.World world) {
         Ref ref = nativeEntity.getReference();
         if (ref != null && ref.isValid()) {
@@ -160,29 +175,40 @@ public class Entity {
         if (world == null)
             return;
 
-        world.execute(() -> {
-            try {
-                Ref ref = nativeEntity.getReference();
-                if (ref != null && ref.isValid()) {
-                    Store<EntityStore> store = ref.getStore();
-
-                    com.hypixel.hytale.math.vector.Vector3d position = new com.hypixel.hytale.math.vector.Vector3d(
-                            location.getX(), location.getY(), location.getZ());
-                    com.hypixel.hytale.math.vector.Vector3f rotation = new com.hypixel.hytale.math.vector.Vector3f(
-                            location.getYaw(), location.getPitch(), 0.0f);
-                    com.hypixel.hytale.math.vector.Transform transform = new com.hypixel.hytale.math.vector.Transform(
-                            position, rotation);
-
-                    com.hypixel.hytale.server.core.modules.entity.teleport.Teleport teleport = new com.hypixel.hytale.server.core.modules.entity.teleport.Teleport(
-                            world, transform.getPosition(), transform.getRotation());
-                    store.addComponent(ref,
-                            com.hypixel.hytale.server.core.modules.entity.teleport.Teleport.getComponentType(),
-                            teleport);
-                }
-            } catch (Exception e) {
-                // Ignore
+        world.execute(() -> applyTeleport(world, location));
+    }
+
+    /**
+     * Adds the teleport component to the entity. Must run on the thread of the
+     * entity's world.
+     * 
+     * @param world    The entity's current world
+     * @param location The target location
+     * @return true if the teleport was applied
+     * @since 1.0.7
+     */
+    boolean applyTeleport(com.hypixel.hytale.server.core.universe.world.World world, Location location) {
+        try {
+            Ref ref = nativeEntity.getReference();
+            if (ref != null && ref.isValid()) {
+                Store<EntityStore> store = ref.getStore();
+
+                com.hypixel.hytale.math.vector.Vector3d position = new com.hypixel.hytale.math.vector.Vector3d(
+                        location.getX(), location.getY(), location.getZ());
+                com.hypixel.hytale.math.vector.Vector3f rotation = new com.hypixel.hytale.math.vector.Vector3f(
+                        location.getYaw(), location.getPitch(), 0.0f);
+
+                com.hypixel.hytale.server.core.modules.entity.teleport.Teleport teleport = new com.hypixel.hytale.server.core.modules.entity.teleport.Teleport(
+                        world, position, rotation);
+                store.addComponent(ref,
+                        com.hypixel.hytale.server.core.modules.entity.teleport.Teleport.getComponentType(),
+                        teleport);
+                return true;
             }
-        });
+        } catch (Exception e) {
+            // Ignore
+        }
+        return false;
     }
 
     /**
@@ -1,6 +1,7 @@
 package fr.hytale.loader.api;
 
 import com.hypixel.hytale.server.core.inventory.ItemStack;
+import fr.hytale.loader.api.asset.ItemKey;
 
 /**
  * HytaleLoader wrapper for the native Hytale ItemStack class.
@@ -32,7 +33,18 @@ public class Item {
      * @param quantity the quantity
      */
     public Item(String id, int quantity) {
-        this.nativeItemStack = new ItemStack(id, quantity);
+        this(ItemKey.of(id), quantity);
+    }
+
+    /**
+     * Constructs a new Item of the specified type and quantity.
+     * 
+     * @param key      the item type
+     * @param quantity the quantity
+     * @since 1.0.7
+     */
+    public Item(ItemKey key, int quantity) {
+        this.nativeItemStack = new ItemStack(key != null ? key.getId() : null, quantity);
     }
 
     /**
@@ -53,6 +65,27 @@ public class Item {
         return nativeItemStack != null ? nativeItemStack.getItemId() : null;
     }
 
+    /**
+     * Gets the item's type as an interned key.
+     * 
+     * @return the item key, or null if the item has no ID
+     * @since 1.0.7
+     */
+    public ItemKey getKey() {
+        return ItemKey.of(getId());
+    }
+
+    /**
+     * Checks the type of the item.
+     * 
+     * @param key the item type to compare with
+     * @return true if the item is of the given type
+     * @since 1.0.7
+     */
+    public boolean isType(ItemKey key) {
+        return getKey() == key;
+    }
+
     /**
      * Gets the item's quantity.
      * 
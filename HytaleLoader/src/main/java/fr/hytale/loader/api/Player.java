@@ -34,6 +34,7 @@ public class Player extends Entity {
 
     private final com.hypixel.hytale.server.core.entity.entities.Player nativePlayer;
     private final PlayerRef playerRef;
+    private final fr.hytale.loader.internal.StatWriteBuffer statWrites;
 
     /**
      * Constructs a new Player wrapper.
@@ -45,6 +46,7 @@ public class Player extends Entity {
         super(nativePlayer);
         this.nativePlayer = nativePlayer;
         this.playerRef = playerRef;
+        this.statWrites = new fr.hytale.loader.internal.StatWriteBuffer(nativePlayer);
     }
 
     /**
@@ -176,14 +178,58 @@ public class Player extends Entity {
         }
     }
 
+    // === Snapshot ===
+
+    /**
+     * Gets the latest snapshot of the player's position and core stats.
+     * <p>
+     * Snapshots are captured on the world thread once per tick, so this never
+     * blocks and is safe to call from any thread. The values may be up to one
+     * tick old; prefer {@link #getLocation()} or the async stat getters when
+     * an exact value is required.
+     * </p>
+     * <p>
+     * Called off the player's world thread, the position, rotation and stat
+     * getters ({@link #getPositionX()}, {@link #getYaw()},
+     * {@link #getHealth()}, ...) read this snapshot instead of waiting on
+     * the world thread for each value. On the world thread, and until the
+     * player was captured once, they read the live values.
+     * </p>
+     * 
+     * @return the latest snapshot, or null if the player was not captured yet
+     * @since 1.0.7
+     */
+    public PlayerSnapshot getSnapshot() {
+        return fr.hytale.loader.internal.PlayerSnapshotSystem.get(playerRef);
+    }
+
+    /**
+     * Gets the snapshot the getters read instead of the live values.
+     *
+     * @return the latest snapshot, or null on the player's world thread, where
+     *         live values are read inline
+     */
+    private PlayerSnapshot offThreadSnapshot() {
+        World world = nativePlayer != null ? nativePlayer.getWorld() : null;
+        if (world != null && world.isInThread()) {
+            return null;
+        }
+        return getSnapshot();
+    }
+
     // === Helper Methods ===
 
     /**
      * Gets the player's X position.
      * 
      * @return the X coordinate, or 0.0 if unavailable
+     * @see #getSnapshot()
      */
     public double getPositionX() {
+        PlayerSnapshot snapshot = offThreadSnapshot();
+        if (snapshot != null) {
+            return snapshot.getX();
+        }
         Location loc = getLocation();
         return loc != null ? loc.getX() : 0.0;
     }
@@ -192,8 +238,13 @@ public class Player extends Entity {
      * Gets the player's Y position.
      * 
      * @return the Y coordinate, or 0.0 if unavailable
+     * @see #getSnapshot()
      */
     public double getPositionY() {
+        PlayerSnapshot snapshot = offThreadSnapshot();
+        if (snapshot != null) {
+            return snapshot.getY();
+        }
         Location loc = getLocation();
         return loc != null ? loc.getY() : 0.0;
     }
@@ -202,8 +253,13 @@ public class Player extends Entity {
      * Gets the player's Z position.
      * 
      * @return the Z coordinate, or 0.0 if unavailable
+     * @see #getSnapshot()
      */
     public double getPositionZ() {
+        PlayerSnapshot snapshot = offThreadSnapshot();
+        if (snapshot != null) {
+            return snapshot.getZ();
+        }
         Location loc = getLocation();
         return loc != null ? loc.getZ() : 0.0;
     }
@@ -212,8 +268,13 @@ public class Player extends Entity {
      * Gets the player's yaw rotation.
      * 
      * @return the yaw rotation, or 0.0f if unavailable
+     * @see #getSnapshot()
      */
     public float getYaw() {
+        PlayerSnapshot snapshot = offThreadSnapshot();
+        if (snapshot != null) {
+            return snapshot.getYaw();
+        }
         Location loc = getLocation();
         return loc != null ? loc.getYaw() : 0.0f;
     }
@@ -222,8 +283,13 @@ public class Player extends Entity {
      * Gets the player's pitch rotation.
      * 
      * @return the pitch rotation, or 0.0f if unavailable
+     * @see #getSnapshot()
      */
     public float getPitch() {
+        PlayerSnapshot snapshot = offThreadSnapshot();
+        if (snapshot != null) {
+            return snapshot.getPitch();
+        }
         Location loc = getLocation();
         return loc != null ? loc.getPitch() : 0.0f;
     }
@@ -247,35 +313,38 @@ public class Player extends Entity {
         if (world == null)
             return;
 
-        world.execute(() -> {
-            try {
-                Ref<EntityStore> ref = (Ref<EntityStore>) playerRef.getReference();
-                if (ref != null && ref.isValid()) {
-                    Store<EntityStore> store = ref.getStore();
+        world.execute(() -> applyTeleport(world, location));
+    }
 
-                    com.hypixel.hytale.math.vector.Vector3d position = new com.hypixel.hytale.math.vector.Vector3d(
-                            location.getX(), location.getY(), location.getZ());
-                    com.hypixel.hytale.math.vector.Vector3f rotation = new com.hypixel.hytale.math.vector.Vector3f(
-                            0.0f, location.getYaw(), 0.0f); // Body only needs YAW
+    @Override
+    boolean applyTeleport(com.hypixel.hytale.server.core.universe.world.World world, Location location) {
+        try {
+            Ref<EntityStore> ref = (Ref<EntityStore>) playerRef.getReference();
+            if (ref != null && ref.isValid()) {
+                Store<EntityStore> store = ref.getStore();
 
-                    // We also need full rotation for head
-                    com.hypixel.hytale.math.vector.Vector3f headRotation = new com.hypixel.hytale.math.vector.Vector3f(
-                            location.getYaw(), location.getPitch(), 0.0f);
+                com.hypixel.hytale.math.vector.Vector3d position = new com.hypixel.hytale.math.vector.Vector3d(
+                        location.getX(), location.getY(), location.getZ());
 
-                    com.hypixel.hytale.server.core.modules.entity.teleport.Teleport teleport = com.hypixel.hytale.server.core.modules.entity.teleport.Teleport
-                            .createForPlayer(
-                                    world,
-                                    position,
-                                    headRotation);
+                // Full rotation for head (the body only needs YAW)
+                com.hypixel.hytale.math.vector.Vector3f headRotation = new com.hypixel.hytale.math.vector.Vector3f(
+                        location.getYaw(), location.getPitch(), 0.0f);
 
-                    store.addComponent(ref,
-                            com.hypixel.hytale.server.core.modules.entity.teleport.Teleport.getComponentType(),
-                            teleport);
-                }
-            } catch (Exception e) {
-                // Ignore
+                com.hypixel.hytale.server.core.modules.entity.teleport.Teleport teleport = com.hypixel.hytale.server.core.modules.entity.teleport.Teleport
+                        .createForPlayer(
+                                world,
+                                position,
+                                headRotation);
+
+                store.addComponent(ref,
+                        com.hypixel.hytale.server.core.modules.entity.teleport.Teleport.getComponentType(),
+                        teleport);
+                return true;
             }
-        });
+        } catch (Exception e) {
+            // Ignore
+        }
+        return false;
     }
 
     // === Health & Stats ===
@@ -285,9 +354,40 @@ public class Player extends Entity {
      * 
      * @return the player's current health, or 0.0 if unavailable
      * @since 1.0.3
+     * @see #getSnapshot()
      */
     public float getHealth() {
-        return getStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getHealth());
+        PlayerSnapshot snapshot = offThreadSnapshot();
+        return snapshot != null ? snapshot.getHealth()
+                : getStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getHealth());
+    }
+
+    /**
+     * Gets the player's current health without blocking.
+     * 
+     * @return a future completed with the health, or 0.0 if unavailable
+     * @see #getHealthAsync(java.util.concurrent.Executor)
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Float> getHealthAsync() {
+        return getHealthAsync(null);
+    }
+
+    /**
+     * Gets the player's current health without blocking.
+     * <p>
+     * The value is read on the player's world thread, or inline if called from
+     * that thread.
+     * </p>
+     * 
+     * @param executor the executor completing the future, or null to complete
+     *                 on the world thread
+     * @return a future completed with the health, or 0.0 if unavailable
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Float> getHealthAsync(java.util.concurrent.Executor executor) {
+        return getStatAsync(
+                com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getHealth(), executor);
     }
 
     /**
@@ -300,14 +400,59 @@ public class Player extends Entity {
         setStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getHealth(), health);
     }
 
+    /**
+     * Adds to the player's health.
+     * <p>
+     * Coalesced with the other stat writes of this tick; several adds are
+     * summed and applied on top of any pending set.
+     * </p>
+     * 
+     * @param delta the amount to add, may be negative
+     * @since 1.0.7
+     */
+    public void addHealth(float delta) {
+        addStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getHealth(), delta);
+    }
+
     /**
      * Gets the player's current stamina.
      * 
      * @return the player's current stamina, or 0.0 if unavailable
      * @since 1.0.3
+     * @see #getSnapshot()
      */
     public float getStamina() {
-        return getStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getStamina());
+        PlayerSnapshot snapshot = offThreadSnapshot();
+        return snapshot != null ? snapshot.getStamina()
+                : getStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getStamina());
+    }
+
+    /**
+     * Gets the player's current stamina without blocking.
+     * 
+     * @return a future completed with the stamina, or 0.0 if unavailable
+     * @see #getStaminaAsync(java.util.concurrent.Executor)
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Float> getStaminaAsync() {
+        return getStaminaAsync(null);
+    }
+
+    /**
+     * Gets the player's current stamina without blocking.
+     * <p>
+     * The value is read on the player's world thread, or inline if called from
+     * that thread.
+     * </p>
+     * 
+     * @param executor the executor completing the future, or null to complete
+     *                 on the world thread
+     * @return a future completed with the stamina, or 0.0 if unavailable
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Float> getStaminaAsync(java.util.concurrent.Executor executor) {
+        return getStatAsync(
+                com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getStamina(), executor);
     }
 
     /**
@@ -320,14 +465,59 @@ public class Player extends Entity {
         setStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getStamina(), stamina);
     }
 
+    /**
+     * Adds to the player's stamina.
+     * <p>
+     * Coalesced with the other stat writes of this tick; several adds are
+     * summed and applied on top of any pending set.
+     * </p>
+     * 
+     * @param delta the amount to add, may be negative
+     * @since 1.0.7
+     */
+    public void addStamina(float delta) {
+        addStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getStamina(), delta);
+    }
+
     /**
      * Gets the player's current oxygen.
      * 
      * @return the player's current oxygen, or 0.0 if unavailable
      * @since 1.0.3
+     * @see #getSnapshot()
      */
     public float getOxygen() {
-        return getStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getOxygen());
+        PlayerSnapshot snapshot = offThreadSnapshot();
+        return snapshot != null ? snapshot.getOxygen()
+                : getStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getOxygen());
+    }
+
+    /**
+     * Gets the player's current oxygen without blocking.
+     * 
+     * @return a future completed with the oxygen, or 0.0 if unavailable
+     * @see #getOxygenAsync(java.util.concurrent.Executor)
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Float> getOxygenAsync() {
+        return getOxygenAsync(null);
+    }
+
+    /**
+     * Gets the player's current oxygen without blocking.
+     * <p>
+     * The value is read on the player's world thread, or inline if called from
+     * that thread.
+     * </p>
+     * 
+     * @param executor the executor completing the future, or null to complete
+     *                 on the world thread
+     * @return a future completed with the oxygen, or 0.0 if unavailable
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Float> getOxygenAsync(java.util.concurrent.Executor executor) {
+        return getStatAsync(
+                com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getOxygen(), executor);
     }
 
     /**
@@ -340,14 +530,59 @@ public class Player extends Entity {
         setStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getOxygen(), oxygen);
     }
 
+    /**
+     * Adds to the player's oxygen.
+     * <p>
+     * Coalesced with the other stat writes of this tick; several adds are
+     * summed and applied on top of any pending set.
+     * </p>
+     * 
+     * @param delta the amount to add, may be negative
+     * @since 1.0.7
+     */
+    public void addOxygen(float delta) {
+        addStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getOxygen(), delta);
+    }
+
     /**
      * Gets the player's current mana.
      * 
      * @return the player's current mana, or 0.0 if unavailable
      * @since 1.0.3
+     * @see #getSnapshot()
      */
     public float getMana() {
-        return getStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getMana());
+        PlayerSnapshot snapshot = offThreadSnapshot();
+        return snapshot != null ? snapshot.getMana()
+                : getStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getMana());
+    }
+
+    /**
+     * Gets the player's current mana without blocking.
+     * 
+     * @return a future completed with the mana, or 0.0 if unavailable
+     * @see #getManaAsync(java.util.concurrent.Executor)
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Float> getManaAsync() {
+        return getManaAsync(null);
+    }
+
+    /**
+     * Gets the player's current mana without blocking.
+     * <p>
+     * The value is read on the player's world thread, or inline if called from
+     * that thread.
+     * </p>
+     * 
+     * @param executor the executor completing the future, or null to complete
+     *                 on the world thread
+     * @return a future completed with the mana, or 0.0 if unavailable
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Float> getManaAsync(java.util.concurrent.Executor executor) {
+        return getStatAsync(
+                com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getMana(), executor);
     }
 
     /**
@@ -360,15 +595,59 @@ public class Player extends Entity {
         setStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getMana(), mana);
     }
 
+    /**
+     * Adds to the player's mana.
+     * <p>
+     * Coalesced with the other stat writes of this tick; several adds are
+     * summed and applied on top of any pending set.
+     * </p>
+     * 
+     * @param delta the amount to add, may be negative
+     * @since 1.0.7
+     */
+    public void addMana(float delta) {
+        addStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getMana(), delta);
+    }
+
     /**
      * Gets the player's current signature energy.
      * 
      * @return the player's current signature energy, or 0.0 if unavailable
      * @since 1.0.3
+     * @see #getSnapshot()
      */
     public float getSignatureEnergy() {
-        return getStat(
-                com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getSignatureEnergy());
+        PlayerSnapshot snapshot = offThreadSnapshot();
+        return snapshot != null ? snapshot.getSignatureEnergy()
+                : getStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getSignatureEnergy());
+    }
+
+    /**
+     * Gets the player's current signature energy without blocking.
+     * 
+     * @return a future completed with the signature energy, or 0.0 if unavailable
+     * @see #getSignatureEnergyAsync(java.util.concurrent.Executor)
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Float> getSignatureEnergyAsync() {
+        return getSignatureEnergyAsync(null);
+    }
+
+    /**
+     * Gets the player's current signature energy without blocking.
+     * <p>
+     * The value is read on the player's world thread, or inline if called from
+     * that thread.
+     * </p>
+     * 
+     * @param executor the executor completing the future, or null to complete
+     *                 on the world thread
+     * @return a future completed with the signature energy, or 0.0 if unavailable
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Float> getSignatureEnergyAsync(java.util.concurrent.Executor executor) {
+        return getStatAsync(
+                com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getSignatureEnergy(), executor);
     }
 
     /**
@@ -382,14 +661,60 @@ public class Player extends Entity {
                 energy);
     }
 
+    /**
+     * Adds to the player's signature energy.
+     * <p>
+     * Coalesced with the other stat writes of this tick; several adds are
+     * summed and applied on top of any pending set.
+     * </p>
+     * 
+     * @param delta the amount to add, may be negative
+     * @since 1.0.7
+     */
+    public void addSignatureEnergy(float delta) {
+        addStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getSignatureEnergy(),
+                delta);
+    }
+
     /**
      * Gets the player's current ammo.
      * 
      * @return the player's current ammo, or 0.0 if unavailable
      * @since 1.0.3
+     * @see #getSnapshot()
      */
     public float getAmmo() {
-        return getStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getAmmo());
+        PlayerSnapshot snapshot = offThreadSnapshot();
+        return snapshot != null ? snapshot.getAmmo()
+                : getStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getAmmo());
+    }
+
+    /**
+     * Gets the player's current ammo without blocking.
+     * 
+     * @return a future completed with the ammo, or 0.0 if unavailable
+     * @see #getAmmoAsync(java.util.concurrent.Executor)
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Float> getAmmoAsync() {
+        return getAmmoAsync(null);
+    }
+
+    /**
+     * Gets the player's current ammo without blocking.
+     * <p>
+     * The value is read on the player's world thread, or inline if called from
+     * that thread.
+     * </p>
+     * 
+     * @param executor the executor completing the future, or null to complete
+     *                 on the world thread
+     * @return a future completed with the ammo, or 0.0 if unavailable
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Float> getAmmoAsync(java.util.concurrent.Executor executor) {
+        return getStatAsync(
+                com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getAmmo(), executor);
     }
 
     /**
@@ -402,6 +727,20 @@ public class Player extends Entity {
         setStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getAmmo(), ammo);
     }
 
+    /**
+     * Adds to the player's ammo.
+     * <p>
+     * Coalesced with the other stat writes of this tick; several adds are
+     * summed and applied on top of any pending set.
+     * </p>
+     * 
+     * @param delta the amount to add, may be negative
+     * @since 1.0.7
+     */
+    public void addAmmo(float delta) {
+        addStat(com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes.getAmmo(), delta);
+    }
+
     /**
      * Gets an entity stat value by its index.
      * 
@@ -410,60 +749,67 @@ public class Player extends Entity {
      * @since 1.0.3
      */
     private float getStat(int statIndex) {
-        if (nativePlayer == null || playerRef == null) {
+        try {
+            // Completes inline on the world thread, so this never waits on itself
+            return getStatAsync(statIndex, null).get(5, java.util.concurrent.TimeUnit.SECONDS);
+        } catch (Exception e) {
             return 0.0f;
         }
+    }
 
-        try {
-            com.hypixel.hytale.server.core.universe.world.World world = nativePlayer.getWorld();
-            if (world == null) {
-                return 0.0f;
-            }
-
-            // Use CompletableFuture to get result from world thread
-            java.util.concurrent.CompletableFuture<Float> future = new java.util.concurrent.CompletableFuture<>();
+    /**
+     * Gets an entity stat value by its index without blocking.
+     * 
+     * @param statIndex the stat index from DefaultEntityStatTypes
+     * @param executor  the executor completing the future, or null
+     * @return a future completed with the stat value, or 0.0 if unavailable
+     * @since 1.0.7
+     */
+    private java.util.concurrent.CompletableFuture<Float> getStatAsync(int statIndex,
+            java.util.concurrent.Executor executor) {
+        com.hypixel.hytale.server.core.universe.world.World world = nativePlayer != null && playerRef != null
+                ? nativePlayer.getWorld()
+                : null;
+        if (world == null) {
+            return java.util.concurrent.CompletableFuture.completedFuture(0.0f);
+        }
 
-            world.execute(() -> {
-                try {
-                    com.hypixel.hytale.component.Store<com.hypixel.hytale.server.core.universe.world.storage.EntityStore> store = world
-                            .getEntityStore().getStore();
-                    com.hypixel.hytale.component.Ref<com.hypixel.hytale.server.core.universe.world.storage.EntityStore> ref = nativePlayer
-                            .getReference();
+        return fr.hytale.loader.internal.WorldTasks.supply(world, () -> {
+            try {
+                com.hypixel.hytale.component.Store<com.hypixel.hytale.server.core.universe.world.storage.EntityStore> store = world
+                        .getEntityStore().getStore();
+                com.hypixel.hytale.component.Ref<com.hypixel.hytale.server.core.universe.world.storage.EntityStore> ref = nativePlayer
+                        .getReference();
 
-                    if (ref == null || !ref.isValid()) {
-                        future.complete(0.0f);
-                        return;
-                    }
-
-                    com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap entityStatMap = (com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap) store
-                            .getComponent(
-                                    ref,
-                                    com.hypixel.hytale.server.core.modules.entitystats.EntityStatsModule.get()
-                                            .getEntityStatMapComponentType());
-
-                    if (entityStatMap == null) {
-                        future.complete(0.0f);
-                        return;
-                    }
-
-                    com.hypixel.hytale.server.core.modules.entitystats.EntityStatValue value = entityStatMap
-                            .get(statIndex);
-                    future.complete((value != null) ? value.get() : 0.0f);
-                } catch (Exception e) {
-                    future.complete(0.0f);
+                if (ref == null || !ref.isValid()) {
+                    return 0.0f;
                 }
-            });
 
-            // Wait for result (max 5 seconds)
-            return future.get(5, java.util.concurrent.TimeUnit.SECONDS);
+                com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap entityStatMap = (com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap) store
+                        .getComponent(
+                                ref,
+                                com.hypixel.hytale.server.core.modules.entitystats.EntityStatsModule.get()
+                                        .getEntityStatMapComponentType());
 
-        } catch (Exception e) {
-            return 0.0f;
-        }
+                if (entityStatMap == null) {
+                    return 0.0f;
+                }
+
+                com.hypixel.hytale.server.core.modules.entitystats.EntityStatValue value = entityStatMap
+                        .get(statIndex);
+                return (value != null) ? value.get() : 0.0f;
+            } catch (Exception e) {
+                return 0.0f;
+            }
+        }, executor);
     }
 
     /**
      * Sets an entity stat value by its index.
+     * <p>
+     * Since 1.0.7, writes are coalesced: all the stat writes of a player are
+     * applied in a single world-thread task, the last set of a stat winning.
+     * </p>
      * 
      * @param statIndex the stat index from DefaultEntityStatTypes
      * @param value     the new value
@@ -473,44 +819,22 @@ public class Player extends Entity {
         if (nativePlayer == null || playerRef == null) {
             return;
         }
+        statWrites.set(statIndex, value);
+    }
 
-        try {
-            com.hypixel.hytale.server.core.universe.world.World world = nativePlayer.getWorld();
-            if (world == null) {
-                return;
-            }
-
-            // Execute in world thread like ReviveMe does
-            world.execute(() -> {
-                try {
-                    com.hypixel.hytale.component.Store<com.hypixel.hytale.server.core.universe.world.storage.EntityStore> store = world
-                            .getEntityStore().getStore();
-                    com.hypixel.hytale.component.Ref<com.hypixel.hytale.server.core.universe.world.storage.EntityStore> ref = nativePlayer
-                            .getReference();
-
-                    if (ref == null || !ref.isValid()) {
-                        return;
-                    }
-
-                    com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap entityStatMap = (com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap) store
-                            .getComponent(
-                                    ref,
-                                    com.hypixel.hytale.server.core.modules.entitystats.EntityStatsModule.get()
-                                            .getEntityStatMapComponentType());
-
-                    if (entityStatMap == null) {
-                        return;
-                    }
-
-                    entityStatMap.setStatValue(statIndex, value);
-                } catch (Exception e) {
-                    // Silently fail
-                }
-            });
-
-        } catch (Exception e) {
-            // Silently fail
+    /**
+     * Adds to an entity stat value by its index, coalesced with the other
+     * stat writes of the player.
+     * 
+     * @param statIndex the stat index from DefaultEntityStatTypes
+     * @param delta     the amount to add
+     * @since 1.0.7
+     */
+    private void addStat(int statIndex, float delta) {
+        if (nativePlayer == null || playerRef == null) {
+            return;
         }
+        statWrites.add(statIndex, delta);
     }
 
     /**
@@ -727,12 +1051,37 @@ public class Player extends Entity {
      * @since 1.0.6
      */
     public void playSound(String sound, SoundCategory category, float volume, float pitch) {
+        playSound(fr.hytale.loader.api.asset.SoundKey.of(sound), category, volume, pitch);
+    }
+
+    /**
+     * Plays a sound to the player (2D, no location).
+     * 
+     * @param sound  The sound
+     * @param volume The volume (1.0 is normal)
+     * @param pitch  The pitch (1.0 is normal)
+     * @since 1.0.7
+     */
+    public void playSound(fr.hytale.loader.api.asset.SoundKey sound, float volume, float pitch) {
+        playSound(sound, SoundCategory.SFX, volume, pitch);
+    }
+
+    /**
+     * Plays a sound to the player (2D, no location).
+     * 
+     * @param sound    The sound
+     * @param category The sound category
+     * @param volume   The volume
+     * @param pitch    The pitch
+     * @since 1.0.7
+     */
+    public void playSound(fr.hytale.loader.api.asset.SoundKey sound, SoundCategory category, float volume,
+            float pitch) {
         if (sound == null || category == null || playerRef == null)
             return;
 
-        int soundIndex = com.hypixel.hytale.server.core.asset.type.soundevent.config.SoundEvent.getAssetMap()
-                .getIndex(sound);
-        if (soundIndex == 0)
+        int soundIndex = sound.getIndex();
+        if (soundIndex == fr.hytale.loader.api.asset.SoundKey.UNKNOWN)
             return;
 
         com.hypixel.hytale.server.core.universe.world.SoundUtil.playSoundEvent2dToPlayer(
@@ -773,12 +1122,45 @@ public class Player extends Entity {
      * @since 1.0.6
      */
     public void playSound(Location location, String sound, SoundCategory category, float volume, float pitch) {
+        playSound(location, fr.hytale.loader.api.asset.SoundKey.of(sound), category, volume, pitch);
+    }
+
+    /**
+     * Plays a sound to the player at a specific location.
+     * <p>
+     * Only this player will hear the sound.
+     * </p>
+     * 
+     * @param location The location to play the sound at
+     * @param sound    The sound
+     * @param volume   The volume
+     * @param pitch    The pitch
+     * @since 1.0.7
+     */
+    public void playSound(Location location, fr.hytale.loader.api.asset.SoundKey sound, float volume, float pitch) {
+        playSound(location, sound, SoundCategory.SFX, volume, pitch);
+    }
+
+    /**
+     * Plays a sound to the player at a specific location.
+     * <p>
+     * Only this player will hear the sound.
+     * </p>
+     * 
+     * @param location The location to play the sound at
+     * @param sound    The sound
+     * @param category The sound category
+     * @param volume   The volume
+     * @param pitch    The pitch
+     * @since 1.0.7
+     */
+    public void playSound(Location location, fr.hytale.loader.api.asset.SoundKey sound, SoundCategory category,
+            float volume, float pitch) {
         if (location == null || sound == null || category == null || playerRef == null)
             return;
 
-        int soundIndex = com.hypixel.hytale.server.core.asset.type.soundevent.config.SoundEvent.getAssetMap()
-                .getIndex(sound);
-        if (soundIndex == 0)
+        int soundIndex = sound.getIndex();
+        if (soundIndex == fr.hytale.loader.api.asset.SoundKey.UNKNOWN)
             return;
 
         if (nativePlayer != null && nativePlayer.getWorld() != null) {
@@ -811,7 +1193,29 @@ public class Player extends Entity {
      * @since 1.0.6
      */
     public void playParticle(Location location, String particleName) {
-        if (location == null || particleName == null || playerRef == null)
+        if (particleName != null) {
+            playParticleId(location, particleName);
+        }
+    }
+
+    /**
+     * Plays a particle effect to the player at a specific location.
+     * <p>
+     * Only this player will see the particle.
+     * </p>
+     *
+     * @param location The location to play the particle at
+     * @param particle The particle
+     * @since 1.0.7
+     */
+    public void playParticle(Location location, fr.hytale.loader.api.asset.ParticleKey particle) {
+        if (particle != null) {
+            playParticleId(location, particle.getId());
+        }
+    }
+
+    private void playParticleId(Location location, String particleId) {
+        if (location == null || playerRef == null)
             return;
 
         if (nativePlayer != null && nativePlayer.getWorld() != null) {
@@ -824,7 +1228,7 @@ public class Player extends Entity {
                 players.add(playerRef.getReference());
 
                 com.hypixel.hytale.server.core.universe.world.ParticleUtil.spawnParticleEffect(
-                        particleName,
+                        particleId,
                         pos,
                         players,
                         (com.hypixel.hytale.component.ComponentAccessor) world.getEntityStore().getStore());
@@ -0,0 +1,255 @@
+package fr.hytale.loader.api;
+
+import java.util.UUID;
+
+/**
+ * Immutable copy of a player's position and core stats, captured on the world
+ * thread once per tick.
+ * <p>
+ * Snapshots are published by HytaleLoader at the end of each capture and can
+ * be read from any thread without blocking (scoreboards, dashboards, async
+ * tasks). They may be up to one tick old: use {@link #getTick()} or
+ * {@link #getAgeMillis()} to check how fresh a snapshot is.
+ * </p>
+ * <p>
+ * Each player is captured and published on their own, by the tick of their
+ * world, and worlds tick independently. Snapshots of different players may
+ * come from different ticks, and their stamps count per player, so they are
+ * not a consistent view of all players at one instant: compare stamps of the
+ * same player only, and use {@link #getTimestamp()} across players.
+ * </p>
+ *
+ * <pre>{@code
+ * PlayerSnapshot snapshot = player.getSnapshot();
+ * if (snapshot != null && snapshot.getAgeMillis() < 100) {
+ *     board.setLine(1, "HP: " + (int) snapshot.getHealth());
+ * }
+ * }</pre>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ * @see Player#getSnapshot()
+ */
+public final class PlayerSnapshot {
+
+    private final UUID uuid;
+    private final String worldName;
+    private final long tick;
+    private final long timestamp;
+    private final double x;
+    private final double y;
+    private final double z;
+    private final float yaw;
+    private final float pitch;
+    private final float health;
+    private final float stamina;
+    private final float oxygen;
+    private final float mana;
+    private final float signatureEnergy;
+    private final float ammo;
+
+    /**
+     * Constructs a new PlayerSnapshot.
+     *
+     * @param uuid            the player UUID
+     * @param worldName       the name of the player's world
+     * @param tick            the capture counter of the player
+     * @param timestamp       the capture time, in milliseconds since the epoch
+     * @param x               the X coordinate
+     * @param y               the Y coordinate
+     * @param z               the Z coordinate
+     * @param yaw             the yaw rotation
+     * @param pitch           the pitch rotation
+     * @param health          the health value
+     * @param stamina         the stamina value
+     * @param oxygen          the oxygen value
+     * @param mana            the mana value
+     * @param signatureEnergy the signature energy value
+     * @param ammo            the ammo value
+     */
+    public PlayerSnapshot(UUID uuid, String worldName, long tick, long timestamp,
+            double x, double y, double z, float yaw, float pitch,
+            float health, float stamina, float oxygen, float mana, float signatureEnergy, float ammo) {
+        this.uuid = uuid;
+        this.worldName = worldName;
+        this.tick = tick;
+        this.timestamp = timestamp;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.yaw = yaw;
+        this.pitch = pitch;
+        this.health = health;
+        this.stamina = stamina;
+        this.oxygen = oxygen;
+        this.mana = mana;
+        this.signatureEnergy = signatureEnergy;
+        this.ammo = ammo;
+    }
+
+    /**
+     * Gets the player UUID.
+     *
+     * @return the UUID
+     */
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    /**
+     * Gets the name of the world the player was in.
+     *
+     * @return the world name, or null if unavailable
+     */
+    public String getWorldName() {
+        return worldName;
+    }
+
+    /**
+     * Gets the tick stamp of this snapshot.
+     * <p>
+     * The stamp counts the ticks the player was captured in, starting at 1
+     * when they joined. Two snapshots of the same player with the same stamp
+     * hold the same data; stamps of different players are unrelated.
+     * </p>
+     *
+     * @return the tick stamp
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Gets the time this snapshot was captured.
+     *
+     * @return the capture time, in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Gets the time elapsed since this snapshot was captured.
+     *
+     * @return the age in milliseconds
+     */
+    public long getAgeMillis() {
+        return System.currentTimeMillis() - timestamp;
+    }
+
+    /**
+     * Gets the X coordinate.
+     *
+     * @return the X coordinate
+     */
+    public double getX() {
+        return x;
+    }
+
+    /**
+     * Gets the Y coordinate.
+     *
+     * @return the Y coordinate
+     */
+    public double getY() {
+        return y;
+    }
+
+    /**
+     * Gets the Z coordinate.
+     *
+     * @return the Z coordinate
+     */
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * Gets the yaw rotation.
+     *
+     * @return the yaw rotation
+     */
+    public float getYaw() {
+        return yaw;
+    }
+
+    /**
+     * Gets the pitch rotation.
+     *
+     * @return the pitch rotation
+     */
+    public float getPitch() {
+        return pitch;
+    }
+
+    /**
+     * Gets the health value.
+     *
+     * @return the health, or 0.0 if the player has no stats
+     */
+    public float getHealth() {
+        return health;
+    }
+
+    /**
+     * Gets the stamina value.
+     *
+     * @return the stamina, or 0.0 if the player has no stats
+     */
+    public float getStamina() {
+        return stamina;
+    }
+
+    /**
+     * Gets the oxygen value.
+     *
+     * @return the oxygen, or 0.0 if the player has no stats
+     */
+    public float getOxygen() {
+        return oxygen;
+    }
+
+    /**
+     * Gets the mana value.
+     *
+     * @return the mana, or 0.0 if the player has no stats
+     */
+    public float getMana() {
+        return mana;
+    }
+
+    /**
+     * Gets the signature energy value.
+     *
+     * @return the signature energy, or 0.0 if the player has no stats
+     */
+    public float getSignatureEnergy() {
+        return signatureEnergy;
+    }
+
+    /**
+     * Gets the ammo value.
+     *
+     * @return the ammo, or 0.0 if the player has no stats
+     */
+    public float getAmmo() {
+        return ammo;
+    }
+
+    /**
+     * Creates a Location from this snapshot.
+     *
+     * @param world the world to use, usually {@code player.getWorld()}
+     * @return the captured location in the given world
+     */
+    public Location toLocation(World world) {
+        return new Location(world, x, y, z, yaw, pitch);
+    }
+
+    @Override
+    public String toString() {
+        return "PlayerSnapshot{uuid=" + uuid + ", world=" + worldName + ", tick=" + tick
+                + ", x=" + x + ", y=" + y + ", z=" + z + ", health=" + health + "}";
+    }
+}
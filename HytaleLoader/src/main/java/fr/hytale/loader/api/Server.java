@@ -4,10 +4,18 @@ import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import fr.hytale.loader.internal.PlayerRegistry;
+import fr.hytale.loader.internal.WorldTasks;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -40,63 +48,114 @@ public class Server {
             return null;
         }
 
-        Ref<EntityStore> entityRef = ref.getReference();
-        if (entityRef == null || !entityRef.isValid()) {
-            return null;
+        // Online players already have a wrapper, no need to hop to the world thread
+        Player cached = PlayerRegistry.get(ref);
+        if (cached != null) {
+            return cached;
         }
 
-        // Components must be accessed from the world thread
-        EntityStore entityStore = (EntityStore) entityRef.getStore().getExternalData();
-        if (entityStore == null) {
-            return null;
-        }
+        List<Player> resolved = resolve(List.of(ref));
+        return resolved.isEmpty() ? null : resolved.get(0);
+    }
 
-        com.hypixel.hytale.server.core.universe.world.World world = entityStore.getWorld();
-        if (world == null) {
-            return null;
+    /**
+     * Creates Player wrappers for players that are not in the registry yet
+     * (e.g. players that joined before the plugin started).
+     * <p>
+     * Components must be read on the world thread, so the players are grouped
+     * by world: each world is visited once, and all worlds are visited in
+     * parallel.
+     * </p>
+     * 
+     * @param refs The PlayerRefs to resolve
+     * @return The resolved players, without those that could not be resolved
+     */
+    private static List<Player> resolve(Collection<PlayerRef> refs) {
+        Map<com.hypixel.hytale.server.core.universe.world.World, List<PlayerRef>> byWorld = new HashMap<>();
+        for (PlayerRef ref : refs) {
+            com.hypixel.hytale.server.core.universe.world.World world = getNativeWorld(ref);
+            if (world != null) {
+                byWorld.computeIfAbsent(world, k -> new ArrayList<>()).add(ref);
+            }
         }
 
-        final com.hypixel.hytale.server.core.entity.entities.Player[] result = new com.hypixel.hytale.server.core.entity.entities.Player[1];
-        final java.util.concurrent.CountDownLatch latch = new java.util.concurrent.CountDownLatch(1);
-
-        world.execute(() -> {
-            try {
-                result[0] = (com.hypixel.hytale.server.core.entity.entities.Player) entityRef
+        List<CompletableFuture<List<Player>>> hops = new ArrayList<>(byWorld.size());
+        byWorld.forEach((world, worldRefs) -> hops.add(WorldTasks.supply(world, () -> {
+            List<Player> players = new ArrayList<>(worldRefs.size());
+            for (PlayerRef ref : worldRefs) {
+                Ref<EntityStore> entityRef = ref.getReference();
+                if (entityRef == null || !entityRef.isValid()) {
+                    continue;
+                }
+                com.hypixel.hytale.server.core.entity.entities.Player nativePlayer = (com.hypixel.hytale.server.core.entity.entities.Player) entityRef
                         .getStore()
                         .getComponent(entityRef,
                                 com.hypixel.hytale.server.core.entity.entities.Player.getComponentType());
-            } finally {
-                latch.countDown();
+                if (nativePlayer != null) {
+                    players.add(PlayerRegistry.wrap(nativePlayer, ref));
+                }
             }
-        });
+            return players;
+        }, null)));
 
         try {
-            latch.await(1, java.util.concurrent.TimeUnit.SECONDS);
+            CompletableFuture.allOf(hops.toArray(new CompletableFuture[0])).get(1, TimeUnit.SECONDS);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
-            return null;
+        } catch (Exception e) {
+            // Timed out or failed: keep the worlds that answered
         }
 
-        // result[0] will be null if:
-        // 1. The player entity component was not found in the store
-        // 2. The world execution timed out or failed
-        if (result[0] == null) {
+        List<Player> result = new ArrayList<>();
+        for (CompletableFuture<List<Player>> hop : hops) {
+            if (hop.isDone() && !hop.isCompletedExceptionally()) {
+                result.addAll(hop.join());
+            }
+        }
+        return result;
+    }
+
+    private static com.hypixel.hytale.server.core.universe.world.World getNativeWorld(PlayerRef ref) {
+        Ref<EntityStore> entityRef = ref.getReference();
+        if (entityRef == null || !entityRef.isValid()) {
             return null;
         }
 
-        return new Player(result[0], ref);
+        EntityStore entityStore = (EntityStore) entityRef.getStore().getExternalData();
+        return entityStore != null ? entityStore.getWorld() : null;
     }
 
     /**
      * Gets all online players on the server.
+     * <p>
+     * Players are served from the wrapper registry kept up to date by join
+     * and quit events. Players missing from it are resolved with at most one
+     * hop per world.
+     * </p>
      * 
      * @return List of all online Player instances
      */
     public static List<Player> getOnlinePlayers() {
-        return Universe.get().getPlayers().stream()
-                .map(Server::fromPlayerRef)
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        Collection<PlayerRef> refs = Universe.get().getPlayers();
+        List<Player> players = new ArrayList<>(refs.size());
+        List<PlayerRef> missing = null;
+
+        for (PlayerRef ref : refs) {
+            Player cached = PlayerRegistry.get(ref);
+            if (cached != null) {
+                players.add(cached);
+            } else {
+                if (missing == null) {
+                    missing = new ArrayList<>();
+                }
+                missing.add(ref);
+            }
+        }
+
+        if (missing != null) {
+            players.addAll(resolve(missing));
+        }
+        return players;
     }
 
     /**
@@ -125,10 +184,104 @@ public class Server {
             return null;
         }
 
-        return getOnlinePlayers().stream()
-                .filter(p -> p.getName().equalsIgnoreCase(name))
-                .findFirst()
-                .orElse(null);
+        Player indexed = PlayerRegistry.getByName(name);
+        if (indexed != null) {
+            return indexed;
+        }
+
+        // Not registered yet (e.g. joined before the plugin started): match the refs only
+        for (PlayerRef ref : Universe.get().getPlayers()) {
+            if (name.equalsIgnoreCase(ref.getUsername())) {
+                return fromPlayerRef(ref);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the online players whose username starts with a prefix
+     * (case-insensitive), sorted by username.
+     * <p>
+     * Served from the name index without touching world threads, which makes
+     * it suitable for command argument completion and "did you mean"
+     * suggestions.
+     * </p>
+     * 
+     * @param prefix The username prefix; an empty prefix matches every player
+     * @param limit  The maximum number of players to return, or 0 for no limit
+     * @return The matching players
+     * @since 1.0.7
+     */
+    public static List<Player> getPlayersByPrefix(String prefix, int limit) {
+        return PlayerRegistry.getByPrefix(prefix, limit);
+    }
+
+    /**
+     * Gets the usernames of the online players starting with a prefix
+     * (case-insensitive), sorted alphabetically.
+     * 
+     * @param prefix The username prefix; an empty prefix matches every player
+     * @param limit  The maximum number of names to return, or 0 for no limit
+     * @return The matching usernames
+     * @since 1.0.7
+     */
+    public static List<String> getPlayerNames(String prefix, int limit) {
+        return PlayerRegistry.getByPrefix(prefix, limit).stream()
+                .map(Player::getName)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Teleports many entities at once.
+     * <p>
+     * Entities are grouped by their current world and each world applies its
+     * teleports in a single task on its thread, instead of one task per
+     * entity. Worlds are processed in parallel.
+     * </p>
+     * 
+     * <pre>{@code
+     * Map<Player, Location> spawns = new HashMap<>();
+     * for (Player p : arena.getPlayers()) {
+     *     spawns.put(p, arena.nextSpawn());
+     * }
+     * Server.teleport(spawns).thenAccept(count -> arena.start());
+     * }</pre>
+     * 
+     * @param teleports The target location of each entity
+     * @return A future completed with the number of entities teleported, once
+     *         every world applied its teleports
+     * @since 1.0.7
+     */
+    public static CompletableFuture<Integer> teleport(Map<? extends Entity, Location> teleports) {
+        if (teleports == null || teleports.isEmpty()) {
+            return CompletableFuture.completedFuture(0);
+        }
+
+        Map<com.hypixel.hytale.server.core.universe.world.World, List<Map.Entry<? extends Entity, Location>>> byWorld = new HashMap<>();
+        for (Map.Entry<? extends Entity, Location> entry : teleports.entrySet()) {
+            Entity entity = entry.getKey();
+            if (entity == null || entry.getValue() == null || entity.getNativeEntity() == null) {
+                continue;
+            }
+            com.hypixel.hytale.server.core.universe.world.World world = entity.getNativeEntity().getWorld();
+            if (world != null) {
+                byWorld.computeIfAbsent(world, k -> new ArrayList<>()).add(entry);
+            }
+        }
+
+        List<CompletableFuture<Integer>> hops = new ArrayList<>(byWorld.size());
+        byWorld.forEach((world, entries) -> hops.add(WorldTasks.supply(world, () -> {
+            int applied = 0;
+            for (Map.Entry<? extends Entity, Location> entry : entries) {
+                if (entry.getKey().applyTeleport(world, entry.getValue())) {
+                    applied++;
+                }
+            }
+            return applied;
+        }, null)));
+
+        return CompletableFuture.allOf(hops.toArray(new CompletableFuture[0]))
+                .thenApply(v -> hops.stream().mapToInt(CompletableFuture::join).sum());
     }
 
     /**
@@ -225,7 +378,7 @@ public class Server {
                 .map(nativePlayer -> {
                     // Find the PlayerRef for this native player
                     PlayerRef ref = nativePlayer.getPlayerRef();
-                    return (ref != null) ? new Player(nativePlayer, ref) : null;
+                    return (ref != null) ? PlayerRegistry.wrap(nativePlayer, ref) : null;
                 })
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
@@ -38,6 +38,23 @@ public class World {
         return nativeWorld != null ? nativeWorld.getName() : "unknown";
     }
 
+    /**
+     * Teleports many entities at once.
+     * <p>
+     * Same as {@link Server#teleport(java.util.Map)}: entities are grouped by
+     * their current world, which may differ from this one, and each world
+     * applies its teleports in a single task.
+     * </p>
+     * 
+     * @param teleports The target location of each entity
+     * @return A future completed with the number of entities teleported
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Integer> teleport(
+            java.util.Map<? extends Entity, Location> teleports) {
+        return Server.teleport(teleports);
+    }
+
     @Override
     public String toString() {
         return "World{name=" + getName() + "}";
@@ -63,17 +80,34 @@ public class World {
      *         found
      */
     public String getBlockIdentifier(int x, int y, int z) {
+        return getBlockKey(x, y, z).getId();
+    }
+
+    /**
+     * Gets the type of the block at the specified coordinates.
+     * <p>
+     * Reads the block index stored by the chunk and returns its interned key,
+     * so it can be compared with {@code ==}.
+     * </p>
+     * 
+     * @param x The X coordinate
+     * @param y The Y coordinate
+     * @param z The Z coordinate
+     * @return The block key, or {@code BlockKey.EMPTY} if the chunk is not
+     *         loaded
+     * @since 1.0.7
+     */
+    public fr.hytale.loader.api.asset.BlockKey getBlockKey(int x, int y, int z) {
         if (nativeWorld == null)
-            return "Empty";
+            return fr.hytale.loader.api.asset.BlockKey.EMPTY;
 
         long chunkIndex = com.hypixel.hytale.math.util.ChunkUtil.indexChunkFromBlock(x, z);
         com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk chunk = nativeWorld.getChunk(chunkIndex);
 
         if (chunk != null) {
-            com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType type = chunk.getBlockType(x, y, z);
-            return type != null ? type.getId() : "Empty";
+            return fr.hytale.loader.api.asset.BlockKey.fromIndex(chunk.getBlock(x, y, z));
         }
-        return "Empty";
+        return fr.hytale.loader.api.asset.BlockKey.EMPTY;
     }
 
     /**
@@ -97,6 +131,27 @@ public class World {
      * @param blockId The block identifier (e.g., "hytale:stone")
      */
     public void setBlock(int x, int y, int z, String blockId) {
+        if (blockId != null) {
+            setBlockId(x, y, z, blockId);
+        }
+    }
+
+    /**
+     * Sets the block at the specified coordinates.
+     * 
+     * @param x     The X coordinate
+     * @param y     The Y coordinate
+     * @param z     The Z coordinate
+     * @param block The block type
+     * @since 1.0.7
+     */
+    public void setBlock(int x, int y, int z, fr.hytale.loader.api.asset.BlockKey block) {
+        if (block != null) {
+            setBlockId(x, y, z, block.getId());
+        }
+    }
+
+    private void setBlockId(int x, int y, int z, String blockId) {
         if (nativeWorld == null)
             return;
 
@@ -104,10 +159,180 @@ public class World {
         com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk chunk = nativeWorld.getChunk(chunkIndex);
 
         if (chunk != null) {
+            // Chunks are written by ID: the compile-time API exposes no index-based setter
             chunk.setBlock(x, y, z, blockId);
         }
     }
 
+    /**
+     * Creates a reader for fast sequential block reads.
+     * <p>
+     * The reader must be used on the world thread.
+     * </p>
+     * 
+     * @return A new block reader for this world
+     * @since 1.0.7
+     */
+    public fr.hytale.loader.api.region.BlockReader newBlockReader() {
+        return new fr.hytale.loader.api.region.BlockReader(this);
+    }
+
+    /**
+     * Finds the first non-empty block along a ray.
+     *
+     * @param origin      The origin of the ray
+     * @param directionX  The X component of the direction
+     * @param directionY  The Y component of the direction
+     * @param directionZ  The Z component of the direction
+     * @param maxDistance The maximum distance, in blocks, clamped to
+     *                    {@code Raycast.MAX_DISTANCE}
+     * @return The hit, or null if no block was found within the distance
+     * @since 1.0.7
+     */
+    public fr.hytale.loader.api.region.RaycastHit raycast(Location origin, double directionX, double directionY,
+            double directionZ, double maxDistance) {
+        return raycast(origin, directionX, directionY, directionZ, maxDistance,
+                fr.hytale.loader.api.region.Raycast.NOT_EMPTY);
+    }
+
+    /**
+     * Finds the first block along a ray matching a filter.
+     * <p>
+     * The ray is walked block by block on the world thread (inline if called
+     * from it), keeping the current chunk between steps. Blocks of unloaded
+     * chunks are passed to the filter as {@code BlockReader.UNLOADED}.
+     * </p>
+     *
+     * @param origin      The origin of the ray
+     * @param directionX  The X component of the direction
+     * @param directionY  The Y component of the direction
+     * @param directionZ  The Z component of the direction
+     * @param maxDistance The maximum distance, in blocks, clamped to
+     *                    {@code Raycast.MAX_DISTANCE}
+     * @param filter      Matches the block indexes that stop the ray
+     * @return The hit, or null if no block matched within the distance
+     * @since 1.0.7
+     */
+    public fr.hytale.loader.api.region.RaycastHit raycast(Location origin, double directionX, double directionY,
+            double directionZ, double maxDistance, java.util.function.IntPredicate filter) {
+        if (nativeWorld == null || origin == null)
+            return null;
+
+        try {
+            return fr.hytale.loader.internal.WorldTasks.call(nativeWorld, () -> newBlockReader().raycast(
+                    origin.getX(), origin.getY(), origin.getZ(), directionX, directionY, directionZ, maxDistance,
+                    filter));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Checks that no non-empty block stands between two locations.
+     *
+     * @param from The viewer location (e.g. eye position)
+     * @param to   The target location
+     * @return true if the target is visible from the viewer, false if they are
+     *         farther apart than {@code Raycast.MAX_DISTANCE}
+     * @since 1.0.7
+     */
+    public boolean hasLineOfSight(Location from, Location to) {
+        return hasLineOfSight(from, to, fr.hytale.loader.api.region.Raycast.NOT_EMPTY);
+    }
+
+    /**
+     * Checks that no block matching a filter stands between two locations.
+     * <p>
+     * The block containing the target is ignored.
+     * </p>
+     *
+     * @param from   The viewer location (e.g. eye position)
+     * @param to     The target location
+     * @param filter Matches the block indexes that block the view
+     * @return true if the target is visible from the viewer, false if they are
+     *         farther apart than {@code Raycast.MAX_DISTANCE}
+     * @since 1.0.7
+     */
+    public boolean hasLineOfSight(Location from, Location to, java.util.function.IntPredicate filter) {
+        if (nativeWorld == null || from == null || to == null)
+            return false;
+
+        try {
+            return fr.hytale.loader.internal.WorldTasks.call(nativeWorld, () -> newBlockReader().hasLineOfSight(
+                    from.getX(), from.getY(), from.getZ(), to.getX(), to.getY(), to.getZ(), filter));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Finds a walking path between two locations with the default options.
+     * <p>
+     * The search runs on worker threads; the world thread only copies the
+     * blocks around the path, within a per-tick time budget.
+     * </p>
+     *
+     * @param from The start, usually the feet of the entity
+     * @param to   The goal
+     * @return A future completed on the world thread with the path
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<fr.hytale.loader.api.path.Path> findPath(Location from,
+            Location to) {
+        return fr.hytale.loader.api.path.Pathfinder.findPath(this, from, to);
+    }
+
+    /**
+     * Finds a walking path between two locations.
+     *
+     * @param from    The start, usually the feet of the entity
+     * @param to      The goal
+     * @param options The search settings (node budget, entity height, ...)
+     * @return A future completed on the world thread with the path
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<fr.hytale.loader.api.path.Path> findPath(Location from,
+            Location to, fr.hytale.loader.api.path.PathOptions options) {
+        return fr.hytale.loader.api.path.Pathfinder.findPath(this, from, to, options);
+    }
+
+    /**
+     * Captures the blocks of a region into a compact snapshot.
+     * <p>
+     * The copy runs on the world thread over several ticks, within a per-tick
+     * time budget. The snapshot can then be read from any thread.
+     * </p>
+     *
+     * @param x1 The X coordinate of a corner
+     * @param y1 The Y coordinate of a corner
+     * @param z1 The Z coordinate of a corner
+     * @param x2 The X coordinate of the opposite corner
+     * @param y2 The Y coordinate of the opposite corner
+     * @param z2 The Z coordinate of the opposite corner
+     * @return A future completed with the snapshot
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<fr.hytale.loader.api.region.RegionSnapshot> captureRegion(int x1,
+            int y1, int z1, int x2, int y2, int z2) {
+        return fr.hytale.loader.api.region.RegionSnapshot.capture(this, x1, y1, z1, x2, y2, z2);
+    }
+
+    /**
+     * Creates an edit session for large block edits.
+     * <p>
+     * Edits recorded in the session are applied chunk by chunk over several
+     * ticks, within a per-tick time budget, once committed.
+     * </p>
+     * 
+     * @return A new edit session for this world
+     * @since 1.0.7
+     */
+    public fr.hytale.loader.api.region.EditSession newEditSession() {
+        return new fr.hytale.loader.api.region.EditSession(this);
+    }
+
     /**
      * Sets the block at the specified location.
      * 
@@ -166,28 +391,42 @@ public class World {
             return null;
 
         try {
-            return getEntityInternal(id);
-        } catch (IllegalStateException e) {
-            if (e.getMessage() != null && e.getMessage().contains("Assert not in thread")) {
-                final java.util.concurrent.CompletableFuture<Entity> future = new java.util.concurrent.CompletableFuture<>();
-                nativeWorld.execute(() -> {
-                    try {
-                        future.complete(getEntityInternal(id));
-                    } catch (Exception ex) {
-                        future.completeExceptionally(ex);
-                    }
-                });
-                try {
-                    return future.join();
-                } catch (Exception ex) {
-                    ex.printStackTrace();
-                    return null;
-                }
-            }
-            throw e;
+            return fr.hytale.loader.internal.WorldTasks.call(nativeWorld, () -> getEntityInternal(id));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
         }
     }
 
+    /**
+     * Gets an entity by its network ID without blocking.
+     * 
+     * @param id The entity's network ID
+     * @return A future completed with the Entity, or with null if not found
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Entity> getEntityAsync(int id) {
+        return getEntityAsync(id, null);
+    }
+
+    /**
+     * Gets an entity by its network ID without blocking.
+     * <p>
+     * The lookup runs on the world thread, or inline if called from that
+     * thread.
+     * </p>
+     * 
+     * @param id       The entity's network ID
+     * @param executor The executor completing the future, or null to complete
+     *                 on the world thread
+     * @return A future completed with the Entity, or with null if not found
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Entity> getEntityAsync(int id,
+            java.util.concurrent.Executor executor) {
+        return fr.hytale.loader.internal.WorldTasks.supply(nativeWorld, () -> getEntityInternal(id), executor);
+    }
+
     private Entity getEntityInternal(int id) {
         com.hypixel.hytale.server.core.universe.world.storage.EntityStore entityStore = nativeWorld.getEntityStore();
         com.hypixel.hytale.component.Ref<com.hypixel.hytale.server.core.universe.world.storage.EntityStore> ref = entityStore
@@ -206,27 +445,39 @@ public class World {
             return null;
 
         try {
-            return getEntityInternal(uuid);
-        } catch (IllegalStateException e) {
-            String msg = e.getMessage();
-            if (msg != null && msg.contains("Assert not in thread")) {
-                final java.util.concurrent.CompletableFuture<Entity> future = new java.util.concurrent.CompletableFuture<>();
-                nativeWorld.execute(() -> {
-                    try {
-                        future.complete(getEntityInternal(uuid));
-                    } catch (Exception ex) {
-                        future.completeExceptionally(ex);
-                    }
-                });
-                try {
-                    return future.join();
-                } catch (Exception ex) {
-                    ex.printStackTrace();
-                    return null;
-                }
-            }
-            throw e;
+            return fr.hytale.loader.internal.WorldTasks.call(nativeWorld, () -> getEntityInternal(uuid));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Gets an entity by its UUID without blocking.
+     * 
+     * @param uuid The entity's UUID
+     * @return A future completed with the Entity, or with null if not found
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Entity> getEntityAsync(java.util.UUID uuid) {
+        return getEntityAsync(uuid, null);
+    }
+
+    /**
+     * Gets an entity by its UUID without blocking.
+     * 
+     * @param uuid     The entity's UUID
+     * @param executor The executor completing the future, or null to complete
+     *                 on the world thread
+     * @return A future completed with the Entity, or with null if not found
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Entity> getEntityAsync(java.util.UUID uuid,
+            java.util.concurrent.Executor executor) {
+        if (uuid == null) {
+            return java.util.concurrent.CompletableFuture.completedFuture(null);
         }
+        return fr.hytale.loader.internal.WorldTasks.supply(nativeWorld, () -> getEntityInternal(uuid), executor);
     }
 
     private Entity getEntityInternal(java.util.UUID uuid) {
@@ -248,32 +499,49 @@ public class World {
             return null;
 
         try {
-            return spawnEntityInternal(location, entityType);
-        } catch (IllegalStateException e) {
-            String msg = e.getMessage();
-            if (msg != null && msg.contains("Assert not in thread")) {
-                final java.util.concurrent.CompletableFuture<Entity> future = new java.util.concurrent.CompletableFuture<>();
-                nativeWorld.execute(() -> {
-                    try {
-                        future.complete(spawnEntityInternal(location, entityType));
-                    } catch (Exception ex) {
-                        future.completeExceptionally(ex);
-                    }
-                });
-                try {
-                    return future.join();
-                } catch (Exception ex) {
-                    ex.printStackTrace();
-                    return null;
-                }
-            }
-            throw e;
+            return fr.hytale.loader.internal.WorldTasks.call(nativeWorld,
+                    () -> spawnEntityInternal(location, entityType));
         } catch (Exception e) {
             e.printStackTrace();
             return null;
         }
     }
 
+    /**
+     * Spawns an entity at the specified location without blocking.
+     * 
+     * @param location   The location to spawn the entity
+     * @param entityType The type of entity (e.g. "Antelope", "Bat_Ice")
+     * @return A future completed with the spawned Entity, or with null if failed
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Entity> spawnEntityAsync(Location location, String entityType) {
+        return spawnEntityAsync(location, entityType, null);
+    }
+
+    /**
+     * Spawns an entity at the specified location without blocking.
+     * <p>
+     * The entity is spawned on the world thread, or inline if called from that
+     * thread.
+     * </p>
+     * 
+     * @param location   The location to spawn the entity
+     * @param entityType The type of entity (e.g. "Antelope", "Bat_Ice")
+     * @param executor   The executor completing the future, or null to complete
+     *                   on the world thread
+     * @return A future completed with the spawned Entity, or with null if failed
+     * @since 1.0.7
+     */
+    public java.util.concurrent.CompletableFuture<Entity> spawnEntityAsync(Location location, String entityType,
+            java.util.concurrent.Executor executor) {
+        if (location == null || entityType == null) {
+            return java.util.concurrent.CompletableFuture.completedFuture(null);
+        }
+        return fr.hytale.loader.internal.WorldTasks.supply(nativeWorld, () -> spawnEntityInternal(location, entityType),
+                executor);
+    }
+
     private Entity spawnEntityInternal(Location location, String entityType) {
         com.hypixel.hytale.server.npc.NPCPlugin npcPlugin = com.hypixel.hytale.server.npc.NPCPlugin.get();
         if (npcPlugin == null)
@@ -301,42 +569,88 @@ public class World {
      */
     private Entity createEntityFromRef(
             com.hypixel.hytale.component.Ref<com.hypixel.hytale.server.core.universe.world.storage.EntityStore> ref) {
-        if (ref == null || !ref.isValid())
-            return null;
+        return fr.hytale.loader.internal.EntityWrappers.fromRef(ref);
+    }
 
-        // Check for Player
-        com.hypixel.hytale.component.Store<com.hypixel.hytale.server.core.universe.world.storage.EntityStore> store = ref
-                .getStore();
+    // === Spatial Queries ===
 
-        // Try to get PlayerRef component
-        com.hypixel.hytale.server.core.universe.PlayerRef playerRef = (com.hypixel.hytale.server.core.universe.PlayerRef) store
-                .getComponent(ref, com.hypixel.hytale.server.core.universe.PlayerRef.getComponentType());
+    /**
+     * Gets the entities within a radius of a location.
+     * <p>
+     * Answered from a spatial index updated every tick, so it never blocks and
+     * can be called from any thread. Positions may be up to one tick old.
+     * </p>
+     * 
+     * @param center The center of the sphere
+     * @param radius The radius, in blocks
+     * @return The entities (including players) within the radius, in no
+     *         particular order
+     * @since 1.0.7
+     */
+    public java.util.List<Entity> getNearbyEntities(Location center, double radius) {
+        fr.hytale.loader.internal.SpatialIndex index = fr.hytale.loader.internal.SpatialIndex.get(nativeWorld);
+        if (index == null || center == null)
+            return new java.util.ArrayList<>();
+        return index.getNearby(center.getX(), center.getY(), center.getZ(), radius);
+    }
 
-        if (playerRef != null) {
-            // It's a player, get the Native Player Entity
-            com.hypixel.hytale.server.core.entity.entities.Player nativePlayer = (com.hypixel.hytale.server.core.entity.entities.Player) store
-                    .getComponent(ref, com.hypixel.hytale.server.core.entity.entities.Player.getComponentType());
-            if (nativePlayer != null) {
-                return new Player(nativePlayer, playerRef);
+    /**
+     * Gets the players within a radius of a location.
+     * 
+     * @param center The center of the sphere
+     * @param radius The radius, in blocks
+     * @return The players within the radius, in no particular order
+     * @see #getNearbyEntities(Location, double)
+     * @since 1.0.7
+     */
+    public java.util.List<Player> getNearbyPlayers(Location center, double radius) {
+        java.util.List<Player> players = new java.util.ArrayList<>();
+        for (Entity entity : getNearbyEntities(center, radius)) {
+            if (entity instanceof Player) {
+                players.add((Player) entity);
             }
         }
+        return players;
+    }
 
-        // It's a generic entity (or NPC). Find the Entity component.
-        com.hypixel.hytale.component.Archetype<com.hypixel.hytale.server.core.universe.world.storage.EntityStore> archetype = store
-                .getArchetype(ref);
-        for (int i = archetype.getMinIndex(); i < archetype.length(); i++) {
-            com.hypixel.hytale.component.ComponentType type = archetype.get(i);
-            if (type != null
-                    && com.hypixel.hytale.server.core.entity.Entity.class.isAssignableFrom(type.getTypeClass())) {
-                com.hypixel.hytale.server.core.entity.Entity nativeEntity = (com.hypixel.hytale.server.core.entity.Entity) store
-                        .getComponent(ref, type);
-                if (nativeEntity != null) {
-                    return new Entity(nativeEntity);
-                }
-            }
-        }
+    /**
+     * Gets the entities inside the box spanned by two corners.
+     * 
+     * @param corner1 A corner of the box
+     * @param corner2 The opposite corner of the box
+     * @return The entities inside the box, in no particular order
+     * @see #getNearbyEntities(Location, double)
+     * @since 1.0.7
+     */
+    public java.util.List<Entity> getEntitiesInBox(Location corner1, Location corner2) {
+        fr.hytale.loader.internal.SpatialIndex index = fr.hytale.loader.internal.SpatialIndex.get(nativeWorld);
+        if (index == null || corner1 == null || corner2 == null)
+            return new java.util.ArrayList<>();
+        return index.getInBox(
+                Math.min(corner1.getX(), corner2.getX()),
+                Math.min(corner1.getY(), corner2.getY()),
+                Math.min(corner1.getZ(), corner2.getZ()),
+                Math.max(corner1.getX(), corner2.getX()),
+                Math.max(corner1.getY(), corner2.getY()),
+                Math.max(corner1.getZ(), corner2.getZ()));
+    }
 
-        return null;
+    /**
+     * Gets the entities closest to a location.
+     * 
+     * @param center    The reference location
+     * @param count     The maximum number of entities to return
+     * @param maxRadius The maximum distance, in blocks
+     * @return Up to {@code count} entities within {@code maxRadius}, nearest
+     *         first
+     * @see #getNearbyEntities(Location, double)
+     * @since 1.0.7
+     */
+    public java.util.List<Entity> getNearestEntities(Location center, int count, double maxRadius) {
+        fr.hytale.loader.internal.SpatialIndex index = fr.hytale.loader.internal.SpatialIndex.get(nativeWorld);
+        if (index == null || center == null)
+            return new java.util.ArrayList<>();
+        return index.getNearest(center.getX(), center.getY(), center.getZ(), count, maxRadius);
     }
 
     @Override
@@ -368,15 +682,42 @@ public class World {
      * @param pitch    The pitch
      */
     public void playSound(Location location, String sound, SoundCategory category, float volume, float pitch) {
+        playSound(location, fr.hytale.loader.api.asset.SoundKey.of(sound), category, volume, pitch);
+    }
+
+    /**
+     * Plays a sound at a specific location for all nearby players.
+     * 
+     * @param location The location to play the sound at
+     * @param sound    The sound
+     * @param volume   The volume (1.0 is normal)
+     * @param pitch    The pitch (1.0 is normal)
+     * @since 1.0.7
+     */
+    public void playSound(Location location, fr.hytale.loader.api.asset.SoundKey sound, float volume, float pitch) {
+        playSound(location, sound, SoundCategory.SFX, volume, pitch);
+    }
+
+    /**
+     * Plays a sound at a specific location for all nearby players.
+     * 
+     * @param location The location to play the sound at
+     * @param sound    The sound
+     * @param category The sound category
+     * @param volume   The volume
+     * @param pitch    The pitch
+     * @since 1.0.7
+     */
+    public void playSound(Location location, fr.hytale.loader.api.asset.SoundKey sound, SoundCategory category,
+            float volume, float pitch) {
         if (location == null || sound == null || category == null || nativeWorld == null)
             return;
 
         if (!location.getWorld().equals(this))
             return;
 
-        int soundIndex = com.hypixel.hytale.server.core.asset.type.soundevent.config.SoundEvent.getAssetMap()
-                .getIndex(sound);
-        if (soundIndex == 0)
+        int soundIndex = sound.getIndex();
+        if (soundIndex == fr.hytale.loader.api.asset.SoundKey.UNKNOWN)
             return;
 
         nativeWorld.execute(() -> {
@@ -401,7 +742,26 @@ public class World {
      * @param particleName The particle identifier (e.g. "lx_sparkle_01")
      */
     public void playParticle(Location location, String particleName) {
-        if (location == null || particleName == null || nativeWorld == null)
+        if (particleName != null) {
+            playParticleId(location, particleName);
+        }
+    }
+
+    /**
+     * Plays a particle effect at a specific location for all nearby players.
+     *
+     * @param location The location to play the particle at
+     * @param particle The particle
+     * @since 1.0.7
+     */
+    public void playParticle(Location location, fr.hytale.loader.api.asset.ParticleKey particle) {
+        if (particle != null) {
+            playParticleId(location, particle.getId());
+        }
+    }
+
+    private void playParticleId(Location location, String particleId) {
+        if (location == null || nativeWorld == null)
             return;
 
         if (!location.getWorld().equals(this))
@@ -412,7 +772,7 @@ public class World {
                     location.getX(), location.getY(), location.getZ());
 
             com.hypixel.hytale.server.core.universe.world.ParticleUtil.spawnParticleEffect(
-                    particleName,
+                    particleId,
                     pos,
                     (com.hypixel.hytale.component.ComponentAccessor) nativeWorld.getEntityStore().getStore());
         });
@@ -0,0 +1,42 @@
+package fr.hytale.loader.api.asset;
+
+/**
+ * Base class of the interned asset handles.
+ * <p>
+ * There is exactly one key instance per asset ID and type, so keys can be
+ * compared with {@code ==} and kept in static fields. Whatever a key needs
+ * from the native asset maps is looked up the first time it is used and then
+ * cached.
+ * </p>
+ * <p>
+ * Keys of unknown IDs are not kept forever: they stay unique while they are
+ * referenced and are collected otherwise, so creating keys from user input
+ * does not leak memory.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public abstract class AssetKey {
+
+    private final String id;
+
+    AssetKey(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the asset ID.
+     *
+     * @return the ID
+     */
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{" + id + "}";
+    }
+}
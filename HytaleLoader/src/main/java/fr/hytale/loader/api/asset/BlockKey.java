@@ -0,0 +1,85 @@
+package fr.hytale.loader.api.asset;
+
+import fr.hytale.loader.internal.BlockAccess;
+
+import java.util.Arrays;
+
+/**
+ * Interned handle of a block type.
+ * <p>
+ * Resolve block keys once, for example in static fields, and compare blocks
+ * with {@code ==} instead of comparing string IDs:
+ * </p>
+ *
+ * <pre>{@code
+ * private static final BlockKey GOLD = BlockKey.of("Ore_Gold");
+ *
+ * if (world.getBlockKey(x, y, z) == GOLD) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public final class BlockKey extends IndexedAssetKey {
+
+    private static final KeyInterner<BlockKey> KEYS = new KeyInterner<>(BlockKey::new, BlockKey::isValid);
+    private static volatile BlockKey[] byIndex = new BlockKey[0];
+
+    /**
+     * The empty block.
+     */
+    public static final BlockKey EMPTY = of("Empty");
+
+    private BlockKey(String id) {
+        super(id);
+    }
+
+    /**
+     * Gets the key of a block ID.
+     *
+     * @param id the block ID (e.g. "Rock_Stone")
+     * @return the key, or null if the ID is null
+     */
+    public static BlockKey of(String id) {
+        return KEYS.intern(id);
+    }
+
+    /**
+     * Gets the key of a native block index, as stored by chunks.
+     * <p>
+     * Keys are cached by index, so this is an array read after the first call
+     * for an index.
+     * </p>
+     *
+     * @param index the block index
+     * @return the key, or {@link #EMPTY} if the index is unknown
+     */
+    public static BlockKey fromIndex(int index) {
+        BlockKey[] table = byIndex;
+        if (index >= 0 && index < table.length && table[index] != null) {
+            return table[index];
+        }
+        return cacheByIndex(index);
+    }
+
+    private static synchronized BlockKey cacheByIndex(int index) {
+        BlockKey key = of(BlockAccess.idOf(index));
+        if (index < 0 || key.getIndex() != index) {
+            // Unknown index, resolved to the "Empty" fallback
+            return key;
+        }
+        // Copied before publishing, so readers never see a half-filled table
+        BlockKey[] table = Arrays.copyOf(byIndex, Math.max(byIndex.length, index + 1));
+        table[index] = key;
+        byIndex = table;
+        return key;
+    }
+
+    @Override
+    int resolve() {
+        return BlockAccess.indexOf(getId());
+    }
+}
@@ -0,0 +1,63 @@
+package fr.hytale.loader.api.asset;
+
+/**
+ * Asset key backed by an indexed native asset map.
+ * <p>
+ * The index is resolved on first use and cached. IDs that are not known yet
+ * (for example because assets are still loading) are looked up again on the
+ * next use.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public abstract class IndexedAssetKey extends AssetKey {
+
+    /**
+     * Index of assets that could not be resolved.
+     */
+    public static final int UNKNOWN = -1;
+
+    private static final int UNRESOLVED = Integer.MIN_VALUE;
+
+    private volatile int index = UNRESOLVED;
+
+    IndexedAssetKey(String id) {
+        super(id);
+    }
+
+    /**
+     * Gets the native asset index, resolving it on first use.
+     *
+     * @return the index, or {@link #UNKNOWN} if the asset does not exist
+     */
+    public int getIndex() {
+        int cached = index;
+        if (cached != UNRESOLVED) {
+            return cached;
+        }
+        int resolved = resolve();
+        if (resolved < 0) {
+            return UNKNOWN;
+        }
+        index = resolved;
+        return resolved;
+    }
+
+    /**
+     * Checks if the asset exists.
+     *
+     * @return true if the index could be resolved
+     */
+    public boolean isValid() {
+        return getIndex() != UNKNOWN;
+    }
+
+    /**
+     * Looks up the native index of this key.
+     *
+     * @return the index, or a negative value if the asset does not exist
+     */
+    abstract int resolve();
+}
@@ -0,0 +1,66 @@
+package fr.hytale.loader.api.asset;
+
+import com.hypixel.hytale.server.core.asset.type.item.config.Item;
+
+/**
+ * Interned handle of an item type.
+ * <p>
+ * Compare item types with {@code ==} on keys instead of comparing IDs, and
+ * use {@link #getAsset()} to reach the item definition without a lookup.
+ * </p>
+ *
+ * <pre>{@code
+ * private static final ItemKey SWORD = ItemKey.of("Weapon_Sword_Iron");
+ *
+ * if (item.getKey() == SWORD) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public final class ItemKey extends AssetKey {
+
+    private static final KeyInterner<ItemKey> KEYS = new KeyInterner<>(ItemKey::new, ItemKey::isValid);
+
+    private volatile Item asset;
+
+    private ItemKey(String id) {
+        super(id);
+    }
+
+    /**
+     * Gets the key of an item ID.
+     *
+     * @param id the item ID
+     * @return the key, or null if the ID is null
+     */
+    public static ItemKey of(String id) {
+        return KEYS.intern(id);
+    }
+
+    /**
+     * Gets the native item definition, resolving it on first use.
+     *
+     * @return the item definition, or null if the item does not exist
+     */
+    public Item getAsset() {
+        Item cached = asset;
+        if (cached == null) {
+            cached = Item.getAssetMap().getAsset(getId());
+            asset = cached;
+        }
+        return cached;
+    }
+
+    /**
+     * Checks if the item exists.
+     *
+     * @return true if the item definition could be resolved
+     */
+    public boolean isValid() {
+        return getAsset() != null;
+    }
+}
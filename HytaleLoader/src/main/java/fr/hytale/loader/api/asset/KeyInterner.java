@@ -0,0 +1,101 @@
+package fr.hytale.loader.api.asset;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Interns the keys of one asset type.
+ * <p>
+ * Keys of existing assets are kept for the life of the server; there are as
+ * many as there are assets. Keys of IDs that do not resolve (typos, command
+ * input, or assets that are not loaded yet) are only weakly referenced: they
+ * stay unique while something holds them, for example a static field created
+ * before the assets loaded, and are collected otherwise. Such a key is moved
+ * to the permanent keys once its asset exists.
+ * </p>
+ *
+ * @param <K> the key type
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+final class KeyInterner<K extends AssetKey> {
+
+    private final Map<String, K> resolved = new ConcurrentHashMap<>();
+    private final Map<String, Entry<K>> unresolved = new ConcurrentHashMap<>();
+    private final ReferenceQueue<K> collected = new ReferenceQueue<>();
+    private final Function<String, K> factory;
+    private final Predicate<K> exists;
+
+    /**
+     * Creates an interner.
+     *
+     * @param factory creates the key of an ID
+     * @param exists  checks if the asset of a key exists
+     */
+    KeyInterner(Function<String, K> factory, Predicate<K> exists) {
+        this.factory = factory;
+        this.exists = exists;
+    }
+
+    /**
+     * Gets the unique key of an ID.
+     *
+     * @param id the asset ID
+     * @return the key, or null if the ID is null
+     */
+    K intern(String id) {
+        if (id == null) {
+            return null;
+        }
+        K key = resolved.get(id);
+        if (key != null) {
+            return key;
+        }
+        return internSlow(id);
+    }
+
+    private synchronized K internSlow(String id) {
+        purge();
+        K key = resolved.get(id);
+        if (key != null) {
+            return key;
+        }
+
+        Entry<K> entry = unresolved.get(id);
+        key = entry != null ? entry.get() : null;
+        if (key == null) {
+            key = factory.apply(id);
+        }
+
+        if (exists.test(key)) {
+            resolved.put(id, key);
+            unresolved.remove(id);
+        } else if (entry == null || entry.get() != key) {
+            unresolved.put(id, new Entry<>(id, key, collected));
+        }
+        return key;
+    }
+
+    private void purge() {
+        Object reference;
+        while ((reference = collected.poll()) != null) {
+            Entry<?> entry = (Entry<?>) reference;
+            // Only if the ID was not interned again since
+            unresolved.remove(entry.id, entry);
+        }
+    }
+
+    private static final class Entry<K> extends WeakReference<K> {
+        private final String id;
+
+        private Entry(String id, K key, ReferenceQueue<K> queue) {
+            super(key, queue);
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package fr.hytale.loader.api.asset;
+
+/**
+ * Interned handle of a particle system.
+ * <p>
+ * Particles are spawned by ID, so the key only interns the ID: keep it in a
+ * static field and compare particle keys with {@code ==}.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public final class ParticleKey extends AssetKey {
+
+    private static final KeyInterner<ParticleKey> KEYS = new KeyInterner<>(ParticleKey::new, key -> false);
+
+    private ParticleKey(String id) {
+        super(id);
+    }
+
+    /**
+     * Gets the key of a particle system ID.
+     *
+     * @param id the particle ID (e.g. "lx_sparkle_01")
+     * @return the key, or null if the ID is null
+     */
+    public static ParticleKey of(String id) {
+        return KEYS.intern(id);
+    }
+}
@@ -0,0 +1,45 @@
+package fr.hytale.loader.api.asset;
+
+/**
+ * Interned handle of a sound event.
+ * <p>
+ * The sound index is looked up once, instead of on every
+ * {@code playSound} call:
+ * </p>
+ *
+ * <pre>{@code
+ * private static final SoundKey LEVEL_UP = SoundKey.of("SFX_Player_Level_Up");
+ *
+ * player.playSound(LEVEL_UP, 1.0f, 1.0f);
+ * }</pre>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public final class SoundKey extends IndexedAssetKey {
+
+    private static final KeyInterner<SoundKey> KEYS = new KeyInterner<>(SoundKey::new, SoundKey::isValid);
+
+    private SoundKey(String id) {
+        super(id);
+    }
+
+    /**
+     * Gets the key of a sound event ID.
+     *
+     * @param id the sound event ID
+     * @return the key, or null if the ID is null
+     */
+    public static SoundKey of(String id) {
+        return KEYS.intern(id);
+    }
+
+    @Override
+    int resolve() {
+        int index = com.hypixel.hytale.server.core.asset.type.soundevent.config.SoundEvent.getAssetMap()
+                .getIndex(getId());
+        // Index 0 is the empty sound
+        return index > 0 ? index : UNKNOWN;
+    }
+}
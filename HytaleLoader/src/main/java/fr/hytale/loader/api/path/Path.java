@@ -0,0 +1,146 @@
+package fr.hytale.loader.api.path;
+
+import fr.hytale.loader.api.Location;
+import fr.hytale.loader.api.World;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Result of a path search: the blocks to walk through, from the start to the
+ * goal.
+ * <p>
+ * Waypoints are the blocks the entity's feet stand in. When the goal could
+ * not be reached, the path leads to the reachable block closest to it.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public final class Path {
+
+    /**
+     * Outcome of a path search.
+     */
+    public enum Status {
+        /**
+         * The path reaches the goal.
+         */
+        FOUND,
+        /**
+         * The node budget ran out; the path leads to the closest block found.
+         */
+        BUDGET_EXCEEDED,
+        /**
+         * The goal cannot be reached within the search area; the path leads to
+         * the closest reachable block.
+         */
+        UNREACHABLE,
+        /**
+         * The start is not a block an entity can stand in; the path is empty.
+         */
+        INVALID_START
+    }
+
+    private final World world;
+    private final Status status;
+    private final int[] xs;
+    private final int[] ys;
+    private final int[] zs;
+    private final int nodesExpanded;
+
+    Path(World world, Status status, int[] xs, int[] ys, int[] zs, int nodesExpanded) {
+        this.world = world;
+        this.status = status;
+        this.xs = xs;
+        this.ys = ys;
+        this.zs = zs;
+        this.nodesExpanded = nodesExpanded;
+    }
+
+    /**
+     * Gets the outcome of the search.
+     *
+     * @return the status
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Checks if the path reaches the goal.
+     *
+     * @return true if the status is {@link Status#FOUND}
+     */
+    public boolean isComplete() {
+        return status == Status.FOUND;
+    }
+
+    /**
+     * Gets the number of waypoints, start included.
+     *
+     * @return the waypoint count
+     */
+    public int size() {
+        return xs.length;
+    }
+
+    /**
+     * Gets the X coordinate of a waypoint block.
+     *
+     * @param index the waypoint index
+     * @return the block X coordinate
+     */
+    public int getX(int index) {
+        return xs[index];
+    }
+
+    /**
+     * Gets the Y coordinate of a waypoint block.
+     *
+     * @param index the waypoint index
+     * @return the block Y coordinate
+     */
+    public int getY(int index) {
+        return ys[index];
+    }
+
+    /**
+     * Gets the Z coordinate of a waypoint block.
+     *
+     * @param index the waypoint index
+     * @return the block Z coordinate
+     */
+    public int getZ(int index) {
+        return zs[index];
+    }
+
+    /**
+     * Gets the waypoints as locations, centered on their blocks.
+     *
+     * @return the waypoints, start first
+     */
+    public List<Location> getWaypoints() {
+        List<Location> waypoints = new ArrayList<>(xs.length);
+        for (int i = 0; i < xs.length; i++) {
+            waypoints.add(new Location(world, xs[i] + 0.5, ys[i], zs[i] + 0.5));
+        }
+        return waypoints;
+    }
+
+    /**
+     * Gets the number of nodes the search expanded.
+     *
+     * @return the expanded node count of the search that found the path,
+     *         also for paths served from the cache
+     */
+    public int getNodesExpanded() {
+        return nodesExpanded;
+    }
+
+    @Override
+    public String toString() {
+        return "Path{status=" + status + ", waypoints=" + xs.length + ", nodes=" + nodesExpanded + "}";
+    }
+}
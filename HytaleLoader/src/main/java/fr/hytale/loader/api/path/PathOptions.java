@@ -0,0 +1,206 @@
+package fr.hytale.loader.api.path;
+
+import fr.hytale.loader.internal.BlockAccess;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Settings of a path search.
+ * <p>
+ * Options are read when the search is requested; changing them afterwards
+ * does not affect searches already running.
+ * </p>
+ *
+ * <pre>{@code
+ * PathOptions options = new PathOptions()
+ *         .setMaxNodes(5000)
+ *         .setEntityHeight(3)
+ *         .setMaxDrop(4);
+ * }</pre>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public class PathOptions {
+
+    /**
+     * Filter matching only the empty block, used by default to find the blocks
+     * an entity can walk through.
+     */
+    public static final IntPredicate EMPTY_ONLY = block -> block == BlockAccess.EMPTY;
+
+    private int maxNodes = 20_000;
+    private int searchMargin = 16;
+    private int entityHeight = 2;
+    private int maxStepUp = 1;
+    private int maxDrop = 3;
+    private boolean allowDiagonal = true;
+    private IntPredicate passable = EMPTY_ONLY;
+    private long cacheMillis = 5_000;
+
+    /**
+     * Sets the maximum number of nodes a search may expand. Searches reaching
+     * the limit return a partial path.
+     *
+     * @param maxNodes the node budget (default 20000)
+     * @return these options
+     */
+    public PathOptions setMaxNodes(int maxNodes) {
+        this.maxNodes = Math.max(1, maxNodes);
+        return this;
+    }
+
+    /**
+     * Sets how far the search may go around the box spanned by the start and
+     * the goal.
+     *
+     * @param blocks the margin in blocks (default 16)
+     * @return these options
+     */
+    public PathOptions setSearchMargin(int blocks) {
+        this.searchMargin = Math.max(0, blocks);
+        return this;
+    }
+
+    /**
+     * Sets the number of passable blocks an entity needs above the ground.
+     *
+     * @param blocks the height in blocks (default 2)
+     * @return these options
+     */
+    public PathOptions setEntityHeight(int blocks) {
+        this.entityHeight = Math.max(1, blocks);
+        return this;
+    }
+
+    /**
+     * Sets the highest step an entity can climb.
+     *
+     * @param blocks the step height in blocks (default 1)
+     * @return these options
+     */
+    public PathOptions setMaxStepUp(int blocks) {
+        this.maxStepUp = Math.max(0, blocks);
+        return this;
+    }
+
+    /**
+     * Sets the highest drop an entity may walk off.
+     *
+     * @param blocks the drop height in blocks (default 3)
+     * @return these options
+     */
+    public PathOptions setMaxDrop(int blocks) {
+        this.maxDrop = Math.max(0, blocks);
+        return this;
+    }
+
+    /**
+     * Sets whether paths may move diagonally. Diagonal moves never cut
+     * corners.
+     *
+     * @param allowDiagonal true to allow diagonal moves (default true)
+     * @return these options
+     */
+    public PathOptions setAllowDiagonal(boolean allowDiagonal) {
+        this.allowDiagonal = allowDiagonal;
+        return this;
+    }
+
+    /**
+     * Sets the filter matching the block indexes an entity can walk through.
+     * Blocks not matching it are solid and can be walked on.
+     *
+     * @param passable the filter (default {@link #EMPTY_ONLY})
+     * @return these options
+     */
+    public PathOptions setPassable(IntPredicate passable) {
+        this.passable = passable != null ? passable : EMPTY_ONLY;
+        return this;
+    }
+
+    /**
+     * Sets how long found paths are reused for identical requests.
+     *
+     * @param millis the cache duration in milliseconds, or 0 to disable
+     *               caching (default 5000)
+     * @return these options
+     */
+    public PathOptions setCacheMillis(long millis) {
+        this.cacheMillis = Math.max(0, millis);
+        return this;
+    }
+
+    /**
+     * Gets the node budget.
+     *
+     * @return the maximum number of expanded nodes
+     */
+    public int getMaxNodes() {
+        return maxNodes;
+    }
+
+    /**
+     * Gets the search margin.
+     *
+     * @return the margin in blocks
+     */
+    public int getSearchMargin() {
+        return searchMargin;
+    }
+
+    /**
+     * Gets the entity height.
+     *
+     * @return the height in blocks
+     */
+    public int getEntityHeight() {
+        return entityHeight;
+    }
+
+    /**
+     * Gets the highest climbable step.
+     *
+     * @return the step height in blocks
+     */
+    public int getMaxStepUp() {
+        return maxStepUp;
+    }
+
+    /**
+     * Gets the highest allowed drop.
+     *
+     * @return the drop height in blocks
+     */
+    public int getMaxDrop() {
+        return maxDrop;
+    }
+
+    /**
+     * Checks if diagonal moves are allowed.
+     *
+     * @return true if paths may move diagonally
+     */
+    public boolean isAllowDiagonal() {
+        return allowDiagonal;
+    }
+
+    /**
+     * Gets the passable block filter.
+     *
+     * @return the filter
+     */
+    public IntPredicate getPassable() {
+        return passable;
+    }
+
+    /**
+     * Gets the cache duration.
+     *
+     * @return the duration in milliseconds, 0 if caching is disabled
+     */
+    public long getCacheMillis() {
+        return cacheMillis;
+    }
+}
@@ -0,0 +1,300 @@
+package fr.hytale.loader.api.path;
+
+import fr.hytale.loader.api.region.BlockReader;
+import fr.hytale.loader.api.region.RegionSnapshot;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Consumer;
+
+/**
+ * A* search over the walkable blocks of a snapshot.
+ * <p>
+ * The snapshot is first reduced to two bit sets, passable and solid blocks.
+ * A block is walkable when the block below it is solid and the blocks of the
+ * entity's height are passable. Moves go to the 4 or 8 neighbouring columns,
+ * climbing steps and walking off drops within the configured heights.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+final class PathSearch {
+
+    private static final double DIAGONAL_COST = Math.sqrt(2);
+    private static final int NONE = Integer.MIN_VALUE;
+    private static final int[][] ORTHOGONAL = { { 1, 0 }, { -1, 0 }, { 0, 1 }, { 0, -1 } };
+    private static final int[][] DIAGONAL = { { 1, 1 }, { 1, -1 }, { -1, 1 }, { -1, -1 } };
+
+    private final Pathfinder.Request request;
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+    private final BitSet passable;
+    private final BitSet solid;
+
+    PathSearch(RegionSnapshot snapshot, Pathfinder.Request request) {
+        this(request, snapshot.getMin(), snapshot.getMax(), snapshot::forEach);
+    }
+
+    /**
+     * Creates a search over any block source, for example a generated grid.
+     *
+     * @param request the request
+     * @param min     the minimum corner of the blocks
+     * @param max     the maximum corner of the blocks
+     * @param blocks  calls a visitor for every known block of the box
+     */
+    PathSearch(Pathfinder.Request request, int[] min, int[] max, Consumer<BlockReader.Visitor> blocks) {
+        this.request = request;
+        this.minX = min[0];
+        this.minY = min[1];
+        this.minZ = min[2];
+        this.sizeX = max[0] - min[0] + 1;
+        this.sizeY = max[1] - min[1] + 1;
+        this.sizeZ = max[2] - min[2] + 1;
+
+        int volume = sizeX * sizeY * sizeZ;
+        this.passable = new BitSet(volume);
+        this.solid = new BitSet(volume);
+        // Blocks of unloaded chunks are neither, so they are never entered
+        blocks.accept((x, y, z, block) -> {
+            if (request.passable.test(block)) {
+                passable.set(index(x, y, z));
+            } else {
+                solid.set(index(x, y, z));
+            }
+        });
+    }
+
+    Path run() {
+        int startY = snap(request.startX, request.startY, request.startZ);
+        if (startY == NONE) {
+            return new Path(request.world, Path.Status.INVALID_START, new int[0], new int[0], new int[0], 0);
+        }
+        int goalY = snap(request.goalX, request.goalY, request.goalZ);
+        if (goalY == NONE) {
+            goalY = request.goalY;
+        }
+
+        Map<Integer, Node> nodes = new HashMap<>();
+        PriorityQueue<Open> open = new PriorityQueue<>();
+        Node start = new Node(request.startX, startY, request.startZ, null);
+        start.g = 0;
+        start.h = heuristic(start.x, start.y, start.z, goalY);
+        nodes.put(index(start.x, start.y, start.z), start);
+        open.add(new Open(start, start.h));
+
+        Node best = start;
+        int expanded = 0;
+        while (!open.isEmpty()) {
+            Open entry = open.poll();
+            Node node = entry.node;
+            if (node.closed || entry.f > node.g + node.h) {
+                // Stale entry, the node was reached more cheaply since
+                continue;
+            }
+            node.closed = true;
+
+            if (node.x == request.goalX && node.y == goalY && node.z == request.goalZ) {
+                return path(node, Path.Status.FOUND, expanded);
+            }
+            if (node.h < best.h) {
+                best = node;
+            }
+            if (expanded == request.maxNodes) {
+                return path(best, Path.Status.BUDGET_EXCEEDED, expanded);
+            }
+            expanded++;
+
+            for (int[] direction : ORTHOGONAL) {
+                int nx = node.x + direction[0];
+                int nz = node.z + direction[1];
+                int ny = landing(node.x, node.y, node.z, nx, nz);
+                if (ny != NONE) {
+                    relax(nodes, open, node, nx, ny, nz, 1 + Math.abs(ny - node.y), goalY);
+                }
+            }
+            if (request.allowDiagonal) {
+                for (int[] direction : DIAGONAL) {
+                    int nx = node.x + direction[0];
+                    int nz = node.z + direction[1];
+                    // Level moves only, and never through the corner of a wall
+                    if (walkable(nx, node.y, nz) && clear(nx, node.y, node.z, request.entityHeight)
+                            && clear(node.x, node.y, nz, request.entityHeight)) {
+                        relax(nodes, open, node, nx, node.y, nz, DIAGONAL_COST, goalY);
+                    }
+                }
+            }
+        }
+        return path(best, Path.Status.UNREACHABLE, expanded);
+    }
+
+    private void relax(Map<Integer, Node> nodes, PriorityQueue<Open> open, Node from, int x, int y, int z,
+            double cost, int goalY) {
+        int key = index(x, y, z);
+        Node node = nodes.get(key);
+        if (node == null) {
+            node = new Node(x, y, z, from);
+            node.h = heuristic(x, y, z, goalY);
+            nodes.put(key, node);
+        } else if (node.closed) {
+            return;
+        }
+
+        double g = from.g + cost;
+        if (g < node.g) {
+            node.g = g;
+            node.parent = from;
+            open.add(new Open(node, g + node.h));
+        }
+    }
+
+    /**
+     * Finds where an entity standing at a block ends up when moving to a
+     * neighbouring column.
+     *
+     * @return the Y coordinate of the landing block, or {@link #NONE}
+     */
+    private int landing(int x, int y, int z, int nx, int nz) {
+        int height = request.entityHeight;
+        if (walkable(nx, y, nz)) {
+            return y;
+        }
+        for (int up = 1; up <= request.maxStepUp; up++) {
+            // Needs headroom above the entity to climb
+            if (walkable(nx, y + up, nz) && clear(x, y + height, z, up)) {
+                return y + up;
+            }
+        }
+        if (!clear(nx, y, nz, height)) {
+            return NONE;
+        }
+        for (int down = 1; down <= request.maxDrop; down++) {
+            int ny = y - down;
+            if (!passable(nx, ny, nz)) {
+                return NONE;
+            }
+            if (solid(nx, ny - 1, nz)) {
+                return ny;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Finds the walkable block an entity at a position stands in, allowing
+     * for slabs and positions slightly above the ground.
+     */
+    private int snap(int x, int y, int z) {
+        if (walkable(x, y, z)) {
+            return y;
+        }
+        if (walkable(x, y + 1, z)) {
+            return y + 1;
+        }
+        if (walkable(x, y - 1, z)) {
+            return y - 1;
+        }
+        return NONE;
+    }
+
+    private double heuristic(int x, int y, int z, int goalY) {
+        int dx = Math.abs(x - request.goalX);
+        int dz = Math.abs(z - request.goalZ);
+        double horizontal = request.allowDiagonal
+                ? Math.max(dx, dz) + (DIAGONAL_COST - 1) * Math.min(dx, dz)
+                : dx + dz;
+        return horizontal + Math.abs(y - goalY);
+    }
+
+    private boolean walkable(int x, int y, int z) {
+        return solid(x, y - 1, z) && clear(x, y, z, request.entityHeight);
+    }
+
+    private boolean clear(int x, int y, int z, int height) {
+        for (int i = 0; i < height; i++) {
+            if (!passable(x, y + i, z)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean passable(int x, int y, int z) {
+        return contains(x, y, z) && passable.get(index(x, y, z));
+    }
+
+    private boolean solid(int x, int y, int z) {
+        return contains(x, y, z) && solid.get(index(x, y, z));
+    }
+
+    private boolean contains(int x, int y, int z) {
+        return x >= minX && x < minX + sizeX && y >= minY && y < minY + sizeY && z >= minZ && z < minZ + sizeZ;
+    }
+
+    private int index(int x, int y, int z) {
+        return ((x - minX) * sizeY + (y - minY)) * sizeZ + (z - minZ);
+    }
+
+    private Path path(Node end, Path.Status status, int expanded) {
+        int length = 0;
+        for (Node node = end; node != null; node = node.parent) {
+            length++;
+        }
+        int[] xs = new int[length];
+        int[] ys = new int[length];
+        int[] zs = new int[length];
+        for (Node node = end; node != null; node = node.parent) {
+            length--;
+            xs[length] = node.x;
+            ys[length] = node.y;
+            zs[length] = node.z;
+        }
+        return new Path(request.world, status, xs, ys, zs, expanded);
+    }
+
+    private static final class Node {
+        private final int x;
+        private final int y;
+        private final int z;
+        private Node parent;
+        private double g = Double.POSITIVE_INFINITY;
+        private double h;
+        private boolean closed;
+
+        private Node(int x, int y, int z, Node parent) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.parent = parent;
+        }
+    }
+
+    /**
+     * Entry of the open set. Nodes are queued again when reached more cheaply
+     * rather than updated in place, which would corrupt the heap order.
+     */
+    private static final class Open implements Comparable<Open> {
+        private final Node node;
+        private final double f;
+
+        private Open(Node node, double f) {
+            this.node = node;
+            this.f = f;
+        }
+
+        @Override
+        public int compareTo(Open other) {
+            int byF = Double.compare(f, other.f);
+            // On ties, prefer the node closest to the goal
+            return byF != 0 ? byF : Double.compare(node.h, other.node.h);
+        }
+    }
+}
@@ -0,0 +1,309 @@
+package fr.hytale.loader.api.path;
+
+import fr.hytale.loader.api.Location;
+import fr.hytale.loader.api.World;
+import fr.hytale.loader.api.region.RegionSnapshot;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+/**
+ * Finds walking paths without spending search time on the world thread.
+ * <p>
+ * A request captures the blocks around the start and the goal into a
+ * {@link RegionSnapshot} (on the world thread, within a tick budget), then
+ * runs an A* search over them on a small pool of worker threads. Each search
+ * stops after its node budget. The returned future completes on the world
+ * thread, so the path can be used to move entities right away.
+ * </p>
+ * <p>
+ * Found paths are cached for identical requests (same world, blocks and
+ * options) during {@link PathOptions#setCacheMillis(long)}, and identical
+ * requests made while a search is running share its result. The pool queues
+ * a bounded number of searches; requests beyond it fail with a
+ * {@link RejectedExecutionException}. A capture that does not finish within
+ * a minute, for example because the world stopped ticking, fails with a
+ * {@link java.util.concurrent.TimeoutException}.
+ * </p>
+ *
+ * <pre>{@code
+ * world.findPath(npc.getLocation(), player.getLocation())
+ *         .thenAccept(path -> {
+ *             if (path.isComplete()) {
+ *                 walk(npc, path.getWaypoints());
+ *             }
+ *         });
+ * }</pre>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public final class Pathfinder {
+
+    private static final int MAX_QUEUED_SEARCHES = 256;
+    private static final int MAX_CACHED_PATHS = 1024;
+    private static final long MAX_SEARCH_VOLUME = 4_000_000L;
+    private static final long CAPTURE_TIMEOUT_MILLIS = 60_000L;
+
+    private static final ThreadPoolExecutor POOL = createPool();
+    private static final Map<Request, CompletableFuture<Path>> IN_FLIGHT = new ConcurrentHashMap<>();
+    private static final Map<Request, Cached> CACHE = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Request, Cached> eldest) {
+            return size() > MAX_CACHED_PATHS;
+        }
+    };
+
+    private Pathfinder() {
+        // Utility class
+    }
+
+    /**
+     * Finds a path with the default options.
+     *
+     * @param world the world to search
+     * @param from  the start, usually the feet of the entity
+     * @param to    the goal
+     * @return a future completed on the world thread with the path
+     */
+    public static CompletableFuture<Path> findPath(World world, Location from, Location to) {
+        return findPath(world, from, to, new PathOptions());
+    }
+
+    /**
+     * Finds a path.
+     *
+     * @param world   the world to search
+     * @param from    the start, usually the feet of the entity
+     * @param to      the goal
+     * @param options the search settings
+     * @return a future completed on the world thread with the path, or
+     *         completed exceptionally if the search area is too large or the
+     *         worker pool is saturated
+     */
+    public static CompletableFuture<Path> findPath(World world, Location from, Location to, PathOptions options) {
+        if (world == null || world.getNative() == null || from == null || to == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Missing world or location"));
+        }
+        Request request = new Request(world, from, to, options != null ? options : new PathOptions());
+
+        long volume = request.volume();
+        if (volume > MAX_SEARCH_VOLUME) {
+            return CompletableFuture.failedFuture(
+                    new IllegalArgumentException("Search area too large: " + volume + " blocks"));
+        }
+
+        Path cached = cached(request);
+        CompletableFuture<Path> result;
+        if (cached != null) {
+            result = CompletableFuture.completedFuture(cached);
+        } else {
+            CompletableFuture<Path> created = new CompletableFuture<>();
+            result = IN_FLIGHT.putIfAbsent(request, created);
+            if (result == null) {
+                result = created;
+                try {
+                    search(request, created);
+                } catch (Throwable t) {
+                    // Otherwise identical requests would wait on it forever
+                    IN_FLIGHT.remove(request, created);
+                    created.completeExceptionally(t);
+                }
+            }
+        }
+        return onWorldThread(world, result);
+    }
+
+    /**
+     * Forgets every cached path, for example after large block edits.
+     */
+    public static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    /**
+     * Hands a result back on the world thread. If the world rejects the task,
+     * for example because it stopped, the returned future fails instead of
+     * never completing.
+     */
+    private static CompletableFuture<Path> onWorldThread(World world, CompletableFuture<Path> result) {
+        CompletableFuture<Path> handed = new CompletableFuture<>();
+        result.whenComplete((path, error) -> {
+            try {
+                world.getNative().execute(() -> {
+                    if (error != null) {
+                        handed.completeExceptionally(error);
+                    } else {
+                        handed.complete(path);
+                    }
+                });
+            } catch (Exception e) {
+                handed.completeExceptionally(e);
+            }
+        });
+        return handed;
+    }
+
+    private static void search(Request request, CompletableFuture<Path> result) {
+        RegionSnapshot
+                .capture(request.world, request.minX, request.minY, request.minZ, request.maxX, request.maxY,
+                        request.maxZ)
+                .orTimeout(CAPTURE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+                .thenCompose(snapshot -> {
+                    CompletableFuture<Path> found = new CompletableFuture<>();
+                    try {
+                        POOL.execute(() -> {
+                            try {
+                                found.complete(new PathSearch(snapshot, request).run());
+                            } catch (Throwable t) {
+                                found.completeExceptionally(t);
+                            }
+                        });
+                    } catch (RejectedExecutionException e) {
+                        found.completeExceptionally(e);
+                    }
+                    return found;
+                })
+                .whenComplete((path, error) -> {
+                    // Cached before leaving the in-flight map, so a request arriving in between finds one of them
+                    if (error == null && request.cacheMillis > 0) {
+                        synchronized (CACHE) {
+                            CACHE.put(request, new Cached(path, System.currentTimeMillis() + request.cacheMillis));
+                        }
+                    }
+                    IN_FLIGHT.remove(request, result);
+                    if (error != null) {
+                        result.completeExceptionally(error);
+                    } else {
+                        result.complete(path);
+                    }
+                });
+    }
+
+    private static Path cached(Request request) {
+        synchronized (CACHE) {
+            Cached cached = CACHE.get(request);
+            if (cached == null) {
+                return null;
+            }
+            if (cached.expiresAt < System.currentTimeMillis()) {
+                CACHE.remove(request);
+                return null;
+            }
+            return cached.path;
+        }
+    }
+
+    private static ThreadPoolExecutor createPool() {
+        int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger count = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(MAX_QUEUED_SEARCHES), runnable -> {
+                    Thread thread = new Thread(runnable, "HytaleLoader-Pathfinder-" + count.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    /**
+     * A path request, with its options frozen. Also the cache key.
+     */
+    static final class Request {
+        final World world;
+        final int startX;
+        final int startY;
+        final int startZ;
+        final int goalX;
+        final int goalY;
+        final int goalZ;
+        final int maxNodes;
+        final int searchMargin;
+        final int entityHeight;
+        final int maxStepUp;
+        final int maxDrop;
+        final boolean allowDiagonal;
+        final IntPredicate passable;
+        final long cacheMillis;
+        final int minX;
+        final int minY;
+        final int minZ;
+        final int maxX;
+        final int maxY;
+        final int maxZ;
+
+        Request(World world, Location from, Location to, PathOptions options) {
+            this.world = world;
+            this.startX = (int) Math.floor(from.getX());
+            this.startY = (int) Math.floor(from.getY());
+            this.startZ = (int) Math.floor(from.getZ());
+            this.goalX = (int) Math.floor(to.getX());
+            this.goalY = (int) Math.floor(to.getY());
+            this.goalZ = (int) Math.floor(to.getZ());
+            this.maxNodes = options.getMaxNodes();
+            this.searchMargin = options.getSearchMargin();
+            this.entityHeight = options.getEntityHeight();
+            this.maxStepUp = options.getMaxStepUp();
+            this.maxDrop = options.getMaxDrop();
+            this.allowDiagonal = options.isAllowDiagonal();
+            this.passable = options.getPassable();
+            this.cacheMillis = options.getCacheMillis();
+
+            this.minX = Math.min(startX, goalX) - searchMargin;
+            this.minZ = Math.min(startZ, goalZ) - searchMargin;
+            this.maxX = Math.max(startX, goalX) + searchMargin;
+            this.maxZ = Math.max(startZ, goalZ) + searchMargin;
+            // Room for the ground below and the entity above
+            this.minY = Math.min(startY, goalY) - searchMargin - 1;
+            this.maxY = Math.max(startY, goalY) + searchMargin + entityHeight;
+        }
+
+        long volume() {
+            return (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Request))
+                return false;
+            Request other = (Request) obj;
+            return world.equals(other.world) && startX == other.startX && startY == other.startY
+                    && startZ == other.startZ && goalX == other.goalX && goalY == other.goalY
+                    && goalZ == other.goalZ && maxNodes == other.maxNodes && searchMargin == other.searchMargin
+                    && entityHeight == other.entityHeight && maxStepUp == other.maxStepUp
+                    && maxDrop == other.maxDrop && allowDiagonal == other.allowDiagonal
+                    && passable == other.passable;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(world, startX, startY, startZ, goalX, goalY, goalZ, maxNodes, searchMargin,
+                    entityHeight, maxStepUp, maxDrop, allowDiagonal);
+        }
+    }
+
+    private static final class Cached {
+        private final Path path;
+        private final long expiresAt;
+
+        private Cached(Path path, long expiresAt) {
+            this.path = path;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package fr.hytale.loader.api.region;
+
+/**
+ * A face of a block, with its outward normal.
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public enum BlockFace {
+    /**
+     * Facing +X.
+     */
+    EAST(1, 0, 0),
+    /**
+     * Facing -X.
+     */
+    WEST(-1, 0, 0),
+    /**
+     * Facing +Y.
+     */
+    UP(0, 1, 0),
+    /**
+     * Facing -Y.
+     */
+    DOWN(0, -1, 0),
+    /**
+     * Facing +Z.
+     */
+    SOUTH(0, 0, 1),
+    /**
+     * Facing -Z.
+     */
+    NORTH(0, 0, -1);
+
+    private final int modX;
+    private final int modY;
+    private final int modZ;
+
+    BlockFace(int modX, int modY, int modZ) {
+        this.modX = modX;
+        this.modY = modY;
+        this.modZ = modZ;
+    }
+
+    /**
+     * Gets the X component of the normal.
+     *
+     * @return -1, 0 or 1
+     */
+    public int getModX() {
+        return modX;
+    }
+
+    /**
+     * Gets the Y component of the normal.
+     *
+     * @return -1, 0 or 1
+     */
+    public int getModY() {
+        return modY;
+    }
+
+    /**
+     * Gets the Z component of the normal.
+     *
+     * @return -1, 0 or 1
+     */
+    public int getModZ() {
+        return modZ;
+    }
+
+    static BlockFace of(int modX, int modY, int modZ) {
+        if (modX != 0) {
+            return modX > 0 ? EAST : WEST;
+        }
+        if (modY != 0) {
+            return modY > 0 ? UP : DOWN;
+        }
+        if (modZ != 0) {
+            return modZ > 0 ? SOUTH : NORTH;
+        }
+        return null;
+    }
+}
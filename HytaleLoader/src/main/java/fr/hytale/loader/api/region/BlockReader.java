@@ -0,0 +1,203 @@
+package fr.hytale.loader.api.region;
+
+import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
+import fr.hytale.loader.api.World;
+import fr.hytale.loader.internal.BlockAccess;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Reads blocks as integer indexes, keeping the current chunk between reads.
+ * <p>
+ * {@link World#getBlockIdentifier(int, int, int)} resolves the chunk and
+ * looks up the string ID of every block. A reader remembers the last chunk
+ * column it used, so consecutive reads in the same column skip the lookup,
+ * and returns the block index stored by the chunk. Convert indexes with
+ * {@link #indexOf(String)} once, before the scan, and compare integers.
+ * </p>
+ * <p>
+ * Readers are not thread-safe and must be used on the world thread (for
+ * example in a task passed to {@code world.getNative().execute(...)}). For
+ * off-thread analysis, capture a {@link RegionSnapshot} instead. Create a
+ * reader per scan: the remembered chunk is not refreshed if it unloads.
+ * </p>
+ *
+ * <pre>{@code
+ * BlockReader reader = world.newBlockReader();
+ * int gold = BlockReader.indexOf("Ore_Gold");
+ * long[] count = new long[1];
+ * reader.forEach(-64, 0, -64, 63, 127, 63, (x, y, z, block) -> {
+ *     if (block == gold) {
+ *         count[0]++;
+ *     }
+ * });
+ * }</pre>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public class BlockReader {
+
+    /**
+     * Index returned for blocks of unloaded chunks.
+     */
+    public static final int UNLOADED = -1;
+
+    private final World world;
+
+    private int chunkX = Integer.MIN_VALUE;
+    private int chunkZ = Integer.MIN_VALUE;
+    private WorldChunk chunk;
+
+    /**
+     * Creates a reader.
+     *
+     * @param world the world to read
+     * @see World#newBlockReader()
+     */
+    public BlockReader(World world) {
+        this.world = world;
+    }
+
+    /**
+     * Gets the index of a block ID, for comparison with read blocks.
+     *
+     * @param blockId the block ID
+     * @return the block index, or -1 if the ID is unknown
+     */
+    public static int indexOf(String blockId) {
+        return BlockAccess.indexOf(blockId);
+    }
+
+    /**
+     * Gets the block ID of an index.
+     *
+     * @param blockIndex the block index
+     * @return the block ID, or {@code "Empty"} if the index is unknown
+     */
+    public static String idOf(int blockIndex) {
+        return BlockAccess.idOf(blockIndex);
+    }
+
+    /**
+     * Reads a block.
+     *
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param z the Z coordinate
+     * @return the block index, or {@link #UNLOADED} if its chunk is not loaded
+     */
+    public int getBlock(int x, int y, int z) {
+        WorldChunk current = chunkAt(BlockAccess.toChunk(x), BlockAccess.toChunk(z));
+        return current != null ? BlockAccess.get(current, x, y, z) : UNLOADED;
+    }
+
+    /**
+     * Reads every block of a box, one chunk column after the other.
+     * <p>
+     * Each chunk is resolved once, then its part of the box is read directly.
+     * Blocks of unloaded chunks are reported as {@link #UNLOADED}.
+     * </p>
+     *
+     * @param x1      the X coordinate of a corner
+     * @param y1      the Y coordinate of a corner
+     * @param z1      the Z coordinate of a corner
+     * @param x2      the X coordinate of the opposite corner
+     * @param y2      the Y coordinate of the opposite corner
+     * @param z2      the Z coordinate of the opposite corner
+     * @param visitor called for each block
+     */
+    public void forEach(int x1, int y1, int z1, int x2, int y2, int z2, Visitor visitor) {
+        int minX = Math.min(x1, x2), maxX = Math.max(x1, x2);
+        int minY = Math.min(y1, y2), maxY = Math.max(y1, y2);
+        int minZ = Math.min(z1, z2), maxZ = Math.max(z1, z2);
+
+        for (int cx = BlockAccess.toChunk(minX); cx <= BlockAccess.toChunk(maxX); cx++) {
+            int x0 = Math.max(minX, cx << BlockAccess.CHUNK_SHIFT);
+            int xEnd = Math.min(maxX, (cx << BlockAccess.CHUNK_SHIFT) + BlockAccess.CHUNK_SIZE - 1);
+            for (int cz = BlockAccess.toChunk(minZ); cz <= BlockAccess.toChunk(maxZ); cz++) {
+                int z0 = Math.max(minZ, cz << BlockAccess.CHUNK_SHIFT);
+                int zEnd = Math.min(maxZ, (cz << BlockAccess.CHUNK_SHIFT) + BlockAccess.CHUNK_SIZE - 1);
+
+                WorldChunk current = chunkAt(cx, cz);
+                for (int x = x0; x <= xEnd; x++) {
+                    for (int z = z0; z <= zEnd; z++) {
+                        for (int y = minY; y <= maxY; y++) {
+                            visitor.visit(x, y, z, current != null ? BlockAccess.get(current, x, y, z) : UNLOADED);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds the first block along a ray.
+     *
+     * @param originX     the X coordinate of the origin
+     * @param originY     the Y coordinate of the origin
+     * @param originZ     the Z coordinate of the origin
+     * @param directionX  the X component of the direction
+     * @param directionY  the Y component of the direction
+     * @param directionZ  the Z component of the direction
+     * @param maxDistance the maximum distance, in blocks, clamped to
+     *                    {@link Raycast#MAX_DISTANCE}
+     * @param filter      matches the block indexes that stop the ray, for
+     *                    example {@link Raycast#NOT_EMPTY}
+     * @return the hit, or null if no block matched within the distance
+     */
+    public RaycastHit raycast(double originX, double originY, double originZ, double directionX, double directionY,
+            double directionZ, double maxDistance, IntPredicate filter) {
+        return Raycast.trace(this::getBlock, originX, originY, originZ, directionX, directionY, directionZ,
+                maxDistance, filter);
+    }
+
+    /**
+     * Checks that no block stops the segment between two points.
+     * <p>
+     * The block containing the second point is ignored, so a solid target
+     * block does not hide itself.
+     * </p>
+     *
+     * @param fromX  the X coordinate of the first point
+     * @param fromY  the Y coordinate of the first point
+     * @param fromZ  the Z coordinate of the first point
+     * @param toX    the X coordinate of the second point
+     * @param toY    the Y coordinate of the second point
+     * @param toZ    the Z coordinate of the second point
+     * @param filter matches the block indexes that block the view
+     * @return true if the second point is visible from the first, false if
+     *         they are farther apart than {@link Raycast#MAX_DISTANCE}
+     */
+    public boolean hasLineOfSight(double fromX, double fromY, double fromZ, double toX, double toY, double toZ,
+            IntPredicate filter) {
+        return Raycast.lineOfSight(this::getBlock, fromX, fromY, fromZ, toX, toY, toZ, filter);
+    }
+
+    private WorldChunk chunkAt(int cx, int cz) {
+        if (cx != chunkX || cz != chunkZ) {
+            chunkX = cx;
+            chunkZ = cz;
+            chunk = world != null && world.getNative() != null ? BlockAccess.chunk(world.getNative(), cx, cz) : null;
+        }
+        return chunk;
+    }
+
+    /**
+     * Receives the blocks read by {@link BlockReader#forEach}.
+     */
+    @FunctionalInterface
+    public interface Visitor {
+
+        /**
+         * Called for a block.
+         *
+         * @param x          the X coordinate
+         * @param y          the Y coordinate
+         * @param z          the Z coordinate
+         * @param blockIndex the block index, or {@link BlockReader#UNLOADED}
+         */
+        void visit(int x, int y, int z, int blockIndex);
+    }
+}
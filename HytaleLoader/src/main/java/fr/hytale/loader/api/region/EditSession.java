@@ -0,0 +1,596 @@
+package fr.hytale.loader.api.region;
+
+import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
+import fr.hytale.loader.api.Location;
+import fr.hytale.loader.api.World;
+import fr.hytale.loader.internal.BlockAccess;
+import fr.hytale.loader.internal.WorldTasks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Applies large block edits over several ticks.
+ * <p>
+ * Edits are recorded first, then {@link #commit()} sorts them by chunk column
+ * and applies them on the world thread in slices. Each slice runs for at most
+ * the tick budget, so resetting an arena of millions of blocks never stalls
+ * the world. Every chunk is resolved once per slice for all the edits it
+ * contains; edits of chunks that are not loaded, or unload before the session
+ * reaches them, are skipped.
+ * </p>
+ *
+ * <pre>{@code
+ * world.newEditSession()
+ *         .setTickBudget(5)
+ *         .fill(-50, 60, -50, 50, 90, 50, "Empty")
+ *         .copy(1000, 60, 1000, 1100, 90, 1100, -50, 60, -50)
+ *         .onProgress(session -> log("Reset " + (int) (session.getProgress() * 100) + "%"))
+ *         .commit()
+ *         .thenAccept(changed -> broadcast("Arena reset (" + changed + " blocks)"));
+ * }</pre>
+ *
+ * <h2>Order of edits</h2>
+ * <p>
+ * Edits of the same block are applied in the order they were recorded. Copies
+ * read their whole source before any block is written, so a copy sees the
+ * world as it was when the session was committed, even if its source
+ * overlaps another edit. Blocks of chunks that are not loaded are skipped.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public class EditSession {
+
+    private static final long DEFAULT_TICK_BUDGET_MILLIS = 5;
+    private static final long DEFAULT_INTERVAL_MILLIS = 50;
+    private static final int CLOCK_CHECK_INTERVAL = 256;
+
+    private final World world;
+    private final List<Op> reads = new ArrayList<>();
+    private final List<Op> writes = new ArrayList<>();
+    private final CompletableFuture<Long> future = new CompletableFuture<>();
+
+    private long tickBudgetNanos = DEFAULT_TICK_BUDGET_MILLIS * 1_000_000L;
+    private long intervalMillis = DEFAULT_INTERVAL_MILLIS;
+    private Consumer<EditSession> progressListener;
+    private boolean committed;
+
+    private volatile long total;
+    private volatile long processed;
+    private volatile long changed;
+    private volatile boolean cancelled;
+
+    // Runner state, only touched on the world thread
+    private final List<Iterator<Map.Entry<Long, List<Op>>>> passes = new ArrayList<>();
+    private Map.Entry<Long, List<Op>> currentChunk;
+    private WorldChunk chunk;
+    private int opIndex;
+    private Cursor cursor;
+
+    /**
+     * Creates an edit session.
+     *
+     * @param world the world to edit
+     * @see World#newEditSession()
+     */
+    public EditSession(World world) {
+        this.world = world;
+    }
+
+    /**
+     * Sets the time the session may spend on the world thread per tick.
+     *
+     * @param millis the budget in milliseconds (default 5)
+     * @return this session
+     */
+    public EditSession setTickBudget(long millis) {
+        this.tickBudgetNanos = Math.max(1, millis) * 1_000_000L;
+        return this;
+    }
+
+    /**
+     * Sets the delay between two slices of work.
+     *
+     * @param millis the delay in milliseconds (default 50, about one tick)
+     * @return this session
+     */
+    public EditSession setSliceInterval(long millis) {
+        this.intervalMillis = Math.max(1, millis);
+        return this;
+    }
+
+    /**
+     * Sets a listener called on the world thread after each slice of work.
+     *
+     * @param listener the listener, receiving this session
+     * @return this session
+     */
+    public EditSession onProgress(Consumer<EditSession> listener) {
+        this.progressListener = listener;
+        return this;
+    }
+
+    /**
+     * Sets a single block.
+     *
+     * @param x       the X coordinate
+     * @param y       the Y coordinate
+     * @param z       the Z coordinate
+     * @param blockId the block ID
+     * @return this session
+     */
+    public EditSession setBlock(int x, int y, int z, String blockId) {
+        return fill(x, y, z, x, y, z, blockId);
+    }
+
+    /**
+     * Fills a box with a block.
+     *
+     * @param x1      the X coordinate of a corner
+     * @param y1      the Y coordinate of a corner
+     * @param z1      the Z coordinate of a corner
+     * @param x2      the X coordinate of the opposite corner
+     * @param y2      the Y coordinate of the opposite corner
+     * @param z2      the Z coordinate of the opposite corner
+     * @param blockId the block ID
+     * @return this session
+     */
+    public EditSession fill(int x1, int y1, int z1, int x2, int y2, int z2, String blockId) {
+        checkNotCommitted();
+        writes.add(new Op(x1, y1, z1, x2, y2, z2) {
+            @Override
+            boolean apply(WorldChunk chunk, int x, int y, int z) {
+                BlockAccess.set(chunk, x, y, z, blockId);
+                return true;
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Fills the box spanned by two locations with a block.
+     *
+     * @param corner1 a corner of the box
+     * @param corner2 the opposite corner
+     * @param blockId the block ID
+     * @return this session
+     */
+    public EditSession fill(Location corner1, Location corner2, String blockId) {
+        return fill((int) Math.floor(corner1.getX()), (int) Math.floor(corner1.getY()),
+                (int) Math.floor(corner1.getZ()), (int) Math.floor(corner2.getX()),
+                (int) Math.floor(corner2.getY()), (int) Math.floor(corner2.getZ()), blockId);
+    }
+
+    /**
+     * Replaces every block of a type inside a box.
+     *
+     * @param x1     the X coordinate of a corner
+     * @param y1     the Y coordinate of a corner
+     * @param z1     the Z coordinate of a corner
+     * @param x2     the X coordinate of the opposite corner
+     * @param y2     the Y coordinate of the opposite corner
+     * @param z2     the Z coordinate of the opposite corner
+     * @param fromId the block ID to replace
+     * @param toId   the new block ID
+     * @return this session
+     */
+    public EditSession replace(int x1, int y1, int z1, int x2, int y2, int z2, String fromId, String toId) {
+        checkNotCommitted();
+        int from = BlockAccess.indexOf(fromId);
+        if (from == BlockAccess.UNKNOWN) {
+            return this;
+        }
+        writes.add(new Op(x1, y1, z1, x2, y2, z2) {
+            @Override
+            boolean apply(WorldChunk chunk, int x, int y, int z) {
+                if (BlockAccess.get(chunk, x, y, z) != from) {
+                    return false;
+                }
+                BlockAccess.set(chunk, x, y, z, toId);
+                return true;
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Copies a box of blocks to another position of the same world.
+     *
+     * @param x1   the X coordinate of a corner of the source
+     * @param y1   the Y coordinate of a corner of the source
+     * @param z1   the Z coordinate of a corner of the source
+     * @param x2   the X coordinate of the opposite corner of the source
+     * @param y2   the Y coordinate of the opposite corner of the source
+     * @param z2   the Z coordinate of the opposite corner of the source
+     * @param toX  the X coordinate the minimum corner of the source is copied
+     *             to
+     * @param toY  the Y coordinate the minimum corner of the source is copied
+     *             to
+     * @param toZ  the Z coordinate the minimum corner of the source is copied
+     *             to
+     * @return this session
+     * @throws IllegalArgumentException if the source holds more than
+     *                                  {@code Integer.MAX_VALUE} blocks
+     */
+    public EditSession copy(int x1, int y1, int z1, int x2, int y2, int z2, int toX, int toY, int toZ) {
+        checkNotCommitted();
+        int sizeY = Math.abs(y2 - y1) + 1;
+        int sizeZ = Math.abs(z2 - z1) + 1;
+        long volume = (long) (Math.abs(x2 - x1) + 1) * sizeY * sizeZ;
+        if (volume > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Copy source too large: " + volume + " blocks");
+        }
+
+        int[] blocks = new int[(int) volume];
+        // Blocks of unloaded source chunks stay unknown and are not copied
+        Arrays.fill(blocks, BlockAccess.UNKNOWN);
+        reads.add(new Op(x1, y1, z1, x2, y2, z2) {
+            @Override
+            boolean apply(WorldChunk chunk, int x, int y, int z) {
+                // minX, minY and minZ are the bounds of this source box
+                blocks[((x - minX) * sizeY + (y - minY)) * sizeZ + (z - minZ)] = BlockAccess.get(chunk, x, y, z);
+                return false;
+            }
+        });
+        writes.add(new Op(toX, toY, toZ, toX + Math.abs(x2 - x1), toY + sizeY - 1, toZ + sizeZ - 1) {
+            @Override
+            boolean apply(WorldChunk chunk, int x, int y, int z) {
+                int index = blocks[((x - toX) * sizeY + (y - toY)) * sizeZ + (z - toZ)];
+                if (index == BlockAccess.UNKNOWN) {
+                    return false;
+                }
+                BlockAccess.set(chunk, x, y, z, BlockAccess.idOf(index));
+                return true;
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Pastes a schematic.
+     * <p>
+     * Each chunk column of the schematic is split along the target chunks.
+     * Every part reads its column from the file when the session reaches it,
+     * and releases it once its blocks were written, so at most one decoded
+     * column is held at a time. Parts in unloaded chunks are never read.
+     * </p>
+     *
+     * @param schematic the schematic to paste
+     * @param x         the X coordinate of the minimum corner
+     * @param y         the Y coordinate of the minimum corner
+     * @param z         the Z coordinate of the minimum corner
+     * @return this session
+     */
+    public EditSession paste(Schematic schematic, int x, int y, int z) {
+        checkNotCommitted();
+        int sizeY = schematic.getSizeY();
+        for (int i = 0; i < schematic.getTileCount(); i++) {
+            Schematic.Tile tile = schematic.getTile(i);
+            int tileX = x + tile.x0;
+            int tileZ = z + tile.z0;
+            int tileMaxX = tileX + tile.sizeX - 1;
+            int tileMaxZ = tileZ + tile.sizeZ - 1;
+            // Unless the paste is chunk-aligned, a column spans several target chunks
+            for (int cx = BlockAccess.toChunk(tileX); cx <= BlockAccess.toChunk(tileMaxX); cx++) {
+                for (int cz = BlockAccess.toChunk(tileZ); cz <= BlockAccess.toChunk(tileMaxZ); cz++) {
+                    int partX = Math.max(tileX, cx << BlockAccess.CHUNK_SHIFT);
+                    int partZ = Math.max(tileZ, cz << BlockAccess.CHUNK_SHIFT);
+                    int partMaxX = Math.min(tileMaxX, (cx << BlockAccess.CHUNK_SHIFT) + BlockAccess.CHUNK_SIZE - 1);
+                    int partMaxZ = Math.min(tileMaxZ, (cz << BlockAccess.CHUNK_SHIFT) + BlockAccess.CHUNK_SIZE - 1);
+                    writes.add(new Op(partX, y, partZ, partMaxX, y + sizeY - 1, partMaxZ) {
+                        private Schematic.Blocks blocks;
+                        private long remaining = volume();
+
+                        @Override
+                        boolean apply(WorldChunk chunk, int x, int y, int z) {
+                            if (blocks == null) {
+                                blocks = tile.decode();
+                            }
+                            String blockId = blocks.get(((x - tileX) * sizeY + (y - minY)) * tile.sizeZ + (z - tileZ));
+                            // The part lies in one chunk, so it is written by a single cursor
+                            if (--remaining == 0) {
+                                blocks = null;
+                            }
+                            BlockAccess.set(chunk, x, y, z, blockId);
+                            return true;
+                        }
+                    });
+                }
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Applies the recorded edits.
+     *
+     * @return a future completed with the number of blocks written, or
+     *         cancelled if {@link #cancel()} was called
+     * @throws IllegalStateException if the session was already committed
+     */
+    public CompletableFuture<Long> commit() {
+        checkNotCommitted();
+        committed = true;
+
+        if (world == null || world.getNative() == null) {
+            future.complete(0L);
+            return future;
+        }
+
+        long volume = 0;
+        for (Op op : reads) {
+            volume += op.volume();
+        }
+        for (Op op : writes) {
+            volume += op.volume();
+        }
+        total = volume;
+
+        passes.add(plan(reads).entrySet().iterator());
+        passes.add(plan(writes).entrySet().iterator());
+        WorldTasks.repeat(world.getNative(), intervalMillis, this::runSlice, future);
+        return future;
+    }
+
+    /**
+     * Stops the session after the current slice. Blocks already written are
+     * kept.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Gets the progress of the session.
+     *
+     * @return the fraction of blocks processed, from 0.0 to 1.0
+     */
+    public double getProgress() {
+        long t = total;
+        return t == 0 ? (future.isDone() ? 1.0 : 0.0) : Math.min(1.0, (double) processed / t);
+    }
+
+    /**
+     * Gets the number of blocks processed so far, copy reads included.
+     *
+     * @return the processed block count
+     */
+    public long getProcessedBlocks() {
+        return processed;
+    }
+
+    /**
+     * Gets the number of blocks to process.
+     *
+     * @return the total block count, known once committed
+     */
+    public long getTotalBlocks() {
+        return total;
+    }
+
+    /**
+     * Gets the number of blocks written so far.
+     *
+     * @return the written block count
+     */
+    public long getChangedBlocks() {
+        return changed;
+    }
+
+    /**
+     * Checks if the session finished, was cancelled or failed.
+     *
+     * @return true if the session is done
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    private boolean runSlice() {
+        if (cancelled) {
+            future.completeExceptionally(new CancellationException("Edit session cancelled"));
+            return false;
+        }
+
+        if (chunk != null) {
+            // The chunk may have unloaded since the last slice: writes to it would be lost
+            chunk = BlockAccess.chunk(world.getNative(), (int) (currentChunk.getKey() >> 32),
+                    (int) (long) currentChunk.getKey());
+        }
+
+        long deadline = System.nanoTime() + tickBudgetNanos;
+        long done = processed;
+        long written = changed;
+        boolean more;
+        try {
+            more = true;
+            int sinceCheck = 0;
+            while (more) {
+                if (cursor == null) {
+                    more = nextCursor();
+                    continue;
+                }
+                if (chunk == null) {
+                    // Not loaded, or unloaded since the chunk was resolved: skip the part
+                    done += cursor.remaining();
+                    cursor = null;
+                    continue;
+                }
+
+                if (cursor.op.apply(chunk, cursor.x, cursor.y, cursor.z)) {
+                    written++;
+                }
+                done++;
+                if (!cursor.advance()) {
+                    cursor = null;
+                }
+
+                if (++sinceCheck >= CLOCK_CHECK_INTERVAL) {
+                    sinceCheck = 0;
+                    if (System.nanoTime() >= deadline) {
+                        break;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            processed = done;
+            changed = written;
+            future.completeExceptionally(e);
+            return false;
+        }
+
+        processed = done;
+        changed = written;
+        if (progressListener != null) {
+            try {
+                progressListener.accept(this);
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+
+        if (!more) {
+            future.complete(written);
+        }
+        return more;
+    }
+
+    private boolean nextCursor() {
+        while (true) {
+            if (currentChunk != null && opIndex < currentChunk.getValue().size()) {
+                Op op = currentChunk.getValue().get(opIndex++);
+                int chunkX = (int) (currentChunk.getKey() >> 32);
+                int chunkZ = (int) (long) currentChunk.getKey();
+                cursor = Cursor.of(op, chunkX, chunkZ);
+                if (cursor != null) {
+                    return true;
+                }
+                continue;
+            }
+
+            // Next chunk of the current pass, or next pass
+            while (!passes.isEmpty() && !passes.get(0).hasNext()) {
+                passes.remove(0);
+            }
+            if (passes.isEmpty()) {
+                return false;
+            }
+            currentChunk = passes.get(0).next();
+            opIndex = 0;
+            chunk = BlockAccess.chunk(world.getNative(), (int) (currentChunk.getKey() >> 32),
+                    (int) (long) currentChunk.getKey());
+        }
+    }
+
+    private static TreeMap<Long, List<Op>> plan(List<Op> ops) {
+        // Sorted by chunk X then Z, so neighbouring chunks are edited together
+        TreeMap<Long, List<Op>> byChunk = new TreeMap<>();
+        for (Op op : ops) {
+            for (int cx = BlockAccess.toChunk(op.minX); cx <= BlockAccess.toChunk(op.maxX); cx++) {
+                for (int cz = BlockAccess.toChunk(op.minZ); cz <= BlockAccess.toChunk(op.maxZ); cz++) {
+                    byChunk.computeIfAbsent(((long) cx << 32) | (cz & 0xFFFFFFFFL), k -> new ArrayList<>()).add(op);
+                }
+            }
+        }
+        return byChunk;
+    }
+
+    private void checkNotCommitted() {
+        if (committed) {
+            throw new IllegalStateException("Edit session already committed");
+        }
+    }
+
+    /**
+     * An edit over a box of blocks.
+     */
+    private abstract static class Op {
+        final int minX;
+        final int minY;
+        final int minZ;
+        final int maxX;
+        final int maxY;
+        final int maxZ;
+
+        Op(int x1, int y1, int z1, int x2, int y2, int z2) {
+            this.minX = Math.min(x1, x2);
+            this.minY = Math.min(y1, y2);
+            this.minZ = Math.min(z1, z2);
+            this.maxX = Math.max(x1, x2);
+            this.maxY = Math.max(y1, y2);
+            this.maxZ = Math.max(z1, z2);
+        }
+
+        long volume() {
+            return (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+        }
+
+        /**
+         * Applies the edit to a block of the box.
+         *
+         * @return true if the block was written
+         */
+        abstract boolean apply(WorldChunk chunk, int x, int y, int z);
+    }
+
+    /**
+     * Walks the part of an edit inside one chunk column.
+     */
+    private static final class Cursor {
+        private final Op op;
+        private final int x0;
+        private final int x1;
+        private final int z0;
+        private final int z1;
+        private int x;
+        private int y;
+        private int z;
+
+        private Cursor(Op op, int x0, int x1, int z0, int z1) {
+            this.op = op;
+            this.x0 = x0;
+            this.x1 = x1;
+            this.z0 = z0;
+            this.z1 = z1;
+            this.x = x0;
+            this.y = op.minY;
+            this.z = z0;
+        }
+
+        static Cursor of(Op op, int chunkX, int chunkZ) {
+            int x0 = Math.max(op.minX, chunkX << BlockAccess.CHUNK_SHIFT);
+            int x1 = Math.min(op.maxX, (chunkX << BlockAccess.CHUNK_SHIFT) + BlockAccess.CHUNK_SIZE - 1);
+            int z0 = Math.max(op.minZ, chunkZ << BlockAccess.CHUNK_SHIFT);
+            int z1 = Math.min(op.maxZ, (chunkZ << BlockAccess.CHUNK_SHIFT) + BlockAccess.CHUNK_SIZE - 1);
+            return x0 <= x1 && z0 <= z1 ? new Cursor(op, x0, x1, z0, z1) : null;
+        }
+
+        boolean advance() {
+            if (++z <= z1) {
+                return true;
+            }
+            z = z0;
+            if (++x <= x1) {
+                return true;
+            }
+            x = x0;
+            return ++y <= op.maxY;
+        }
+
+        long remaining() {
+            long columns = (long) (x1 - x0 + 1) * (z1 - z0 + 1);
+            long doneInLayer = (long) (x - x0) * (z1 - z0 + 1) + (z - z0);
+            return (op.maxY - y + 1) * columns - doneInLayer;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package fr.hytale.loader.api.region;
+
+import fr.hytale.loader.internal.BlockAccess;
+
+import java.util.function.IntPredicate;
+
+/**
+ * Voxel traversal shared by the raycasts of {@link BlockReader},
+ * {@link RegionSnapshot} and {@link fr.hytale.loader.api.World}.
+ * <p>
+ * Rays walk the grid one block at a time with a 3D DDA (Amanatides and Woo):
+ * each step moves to the next block boundary crossed by the ray, so every
+ * block the ray passes through is tested exactly once and no block is
+ * skipped, whatever the direction.
+ * </p>
+ * <p>
+ * Rays are limited to {@link #MAX_DISTANCE} blocks, so a filter that never
+ * matches cannot hold the world thread for long. Longer distances are
+ * clamped, and rays with non-finite coordinates are not traced.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public final class Raycast {
+
+    /**
+     * Filter matching every block except the empty block. Blocks of unloaded
+     * chunks match, so they stop rays.
+     */
+    public static final IntPredicate NOT_EMPTY = block -> block != BlockAccess.EMPTY;
+
+    /**
+     * The longest distance a ray is traced, in blocks. A ray crosses at most
+     * about three blocks per block of distance.
+     */
+    public static final double MAX_DISTANCE = 1024;
+
+    private Raycast() {
+        // Utility class
+    }
+
+    /**
+     * Reads the blocks crossed by a ray.
+     */
+    @FunctionalInterface
+    interface BlockSource {
+        int getBlock(int x, int y, int z);
+    }
+
+    static RaycastHit trace(BlockSource blocks, double originX, double originY, double originZ, double directionX,
+            double directionY, double directionZ, double maxDistance, IntPredicate filter) {
+        double length = Math.sqrt(directionX * directionX + directionY * directionY + directionZ * directionZ);
+        // NaN or infinite values would never reach the distance check
+        if (length == 0 || !Double.isFinite(length) || !(maxDistance >= 0) || filter == null
+                || !Double.isFinite(originX) || !Double.isFinite(originY) || !Double.isFinite(originZ)) {
+            return null;
+        }
+        maxDistance = Math.min(maxDistance, MAX_DISTANCE);
+        double dx = directionX / length;
+        double dy = directionY / length;
+        double dz = directionZ / length;
+
+        int x = (int) Math.floor(originX);
+        int y = (int) Math.floor(originY);
+        int z = (int) Math.floor(originZ);
+        int stepX = (int) Math.signum(dx);
+        int stepY = (int) Math.signum(dy);
+        int stepZ = (int) Math.signum(dz);
+
+        // Distance along the ray to cross one block, and to the next boundary
+        double deltaX = stepX != 0 ? Math.abs(1 / dx) : Double.POSITIVE_INFINITY;
+        double deltaY = stepY != 0 ? Math.abs(1 / dy) : Double.POSITIVE_INFINITY;
+        double deltaZ = stepZ != 0 ? Math.abs(1 / dz) : Double.POSITIVE_INFINITY;
+        double nextX = boundary(originX, x, stepX, dx);
+        double nextY = boundary(originY, y, stepY, dy);
+        double nextZ = boundary(originZ, z, stepZ, dz);
+
+        double t = 0;
+        int normalX = 0;
+        int normalY = 0;
+        int normalZ = 0;
+        while (true) {
+            int block = blocks.getBlock(x, y, z);
+            if (filter.test(block)) {
+                return new RaycastHit(x, y, z, block, t, originX + dx * t, originY + dy * t, originZ + dz * t,
+                        BlockFace.of(normalX, normalY, normalZ));
+            }
+
+            if (nextX < nextY && nextX < nextZ) {
+                t = nextX;
+                x += stepX;
+                nextX += deltaX;
+                normalX = -stepX;
+                normalY = 0;
+                normalZ = 0;
+            } else if (nextY < nextZ) {
+                t = nextY;
+                y += stepY;
+                nextY += deltaY;
+                normalX = 0;
+                normalY = -stepY;
+                normalZ = 0;
+            } else {
+                t = nextZ;
+                z += stepZ;
+                nextZ += deltaZ;
+                normalX = 0;
+                normalY = 0;
+                normalZ = -stepZ;
+            }
+            if (t > maxDistance) {
+                return null;
+            }
+        }
+    }
+
+    static boolean lineOfSight(BlockSource blocks, double fromX, double fromY, double fromZ, double toX, double toY,
+            double toZ, IntPredicate filter) {
+        double dx = toX - fromX;
+        double dy = toY - fromY;
+        double dz = toZ - fromZ;
+        double distance = Math.sqrt(dx * dx + dy * dy + dz * dz);
+        if (!(distance <= MAX_DISTANCE)) {
+            // Too far, or not finite: the line cannot be checked
+            return false;
+        }
+        if (distance == 0) {
+            return true;
+        }
+
+        RaycastHit hit = trace(blocks, fromX, fromY, fromZ, dx, dy, dz, distance, filter);
+        // The block holding the target does not hide it
+        return hit == null || (hit.getBlockX() == (int) Math.floor(toX) && hit.getBlockY() == (int) Math.floor(toY)
+                && hit.getBlockZ() == (int) Math.floor(toZ));
+    }
+
+    private static double boundary(double origin, int block, int step, double direction) {
+        if (step > 0) {
+            return (block + 1 - origin) / direction;
+        }
+        if (step < 0) {
+            return (origin - block) / -direction;
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+}
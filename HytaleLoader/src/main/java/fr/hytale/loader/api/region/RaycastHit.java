@@ -0,0 +1,145 @@
+package fr.hytale.loader.api.region;
+
+import fr.hytale.loader.api.Location;
+import fr.hytale.loader.api.World;
+import fr.hytale.loader.api.asset.BlockKey;
+
+/**
+ * The block hit by a ray.
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public final class RaycastHit {
+
+    private final int blockX;
+    private final int blockY;
+    private final int blockZ;
+    private final int blockIndex;
+    private final double distance;
+    private final double hitX;
+    private final double hitY;
+    private final double hitZ;
+    private final BlockFace face;
+
+    RaycastHit(int blockX, int blockY, int blockZ, int blockIndex, double distance, double hitX, double hitY,
+            double hitZ, BlockFace face) {
+        this.blockX = blockX;
+        this.blockY = blockY;
+        this.blockZ = blockZ;
+        this.blockIndex = blockIndex;
+        this.distance = distance;
+        this.hitX = hitX;
+        this.hitY = hitY;
+        this.hitZ = hitZ;
+        this.face = face;
+    }
+
+    /**
+     * Gets the X coordinate of the hit block.
+     *
+     * @return the block X coordinate
+     */
+    public int getBlockX() {
+        return blockX;
+    }
+
+    /**
+     * Gets the Y coordinate of the hit block.
+     *
+     * @return the block Y coordinate
+     */
+    public int getBlockY() {
+        return blockY;
+    }
+
+    /**
+     * Gets the Z coordinate of the hit block.
+     *
+     * @return the block Z coordinate
+     */
+    public int getBlockZ() {
+        return blockZ;
+    }
+
+    /**
+     * Gets the index of the hit block.
+     *
+     * @return the block index, or {@link BlockReader#UNLOADED} if the ray
+     *         reached an unloaded chunk
+     */
+    public int getBlockIndex() {
+        return blockIndex;
+    }
+
+    /**
+     * Gets the type of the hit block.
+     *
+     * @return the block key
+     */
+    public BlockKey getBlockKey() {
+        return BlockKey.fromIndex(blockIndex);
+    }
+
+    /**
+     * Gets the distance from the origin of the ray to the hit point.
+     *
+     * @return the distance, in blocks
+     */
+    public double getDistance() {
+        return distance;
+    }
+
+    /**
+     * Gets the X coordinate where the ray entered the block.
+     *
+     * @return the X coordinate
+     */
+    public double getHitX() {
+        return hitX;
+    }
+
+    /**
+     * Gets the Y coordinate where the ray entered the block.
+     *
+     * @return the Y coordinate
+     */
+    public double getHitY() {
+        return hitY;
+    }
+
+    /**
+     * Gets the Z coordinate where the ray entered the block.
+     *
+     * @return the Z coordinate
+     */
+    public double getHitZ() {
+        return hitZ;
+    }
+
+    /**
+     * Gets the face of the block the ray entered through.
+     *
+     * @return the face, or null if the ray started inside the block
+     */
+    public BlockFace getFace() {
+        return face;
+    }
+
+    /**
+     * Gets the point where the ray entered the block.
+     *
+     * @param world the world of the location
+     * @return the hit point
+     */
+    public Location getHitLocation(World world) {
+        return new Location(world, hitX, hitY, hitZ);
+    }
+
+    @Override
+    public String toString() {
+        return "RaycastHit{block=" + blockX + "," + blockY + "," + blockZ + ", index=" + blockIndex + ", distance="
+                + distance + ", face=" + face + "}";
+    }
+}
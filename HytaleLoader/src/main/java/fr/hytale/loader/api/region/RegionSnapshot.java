@@ -0,0 +1,517 @@
+package fr.hytale.loader.api.region;
+
+import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
+import fr.hytale.loader.api.World;
+import fr.hytale.loader.internal.BlockAccess;
+import fr.hytale.loader.internal.WorldTasks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntPredicate;
+
+/**
+ * Immutable, compact copy of the blocks of a region.
+ * <p>
+ * A snapshot is captured on the world thread, one chunk column at a time
+ * within a per-tick time budget. Each column is stored as a palette of the
+ * block indexes it contains plus a packed bit array of palette entries, so a
+ * block costs a few bits (none at all in uniform columns such as air above
+ * the ground). Once captured, a snapshot needs no world-thread time: it can
+ * be read, streamed and processed in parallel from any thread.
+ * </p>
+ *
+ * <pre>{@code
+ * RegionSnapshot.capture(world, -256, 0, -256, 255, 127, 255)
+ *         .thenApplyAsync(snapshot -> snapshot.count(block -> block == diamond))
+ *         .thenAccept(count -> log(count + " diamond blocks"));
+ * }</pre>
+ *
+ * <p>
+ * Capturing takes several ticks for large regions, and blocks edited in the
+ * meantime may be captured before or after the edit.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public final class RegionSnapshot {
+
+    private static final long DEFAULT_TICK_BUDGET_MILLIS = 5;
+    private static final long SLICE_INTERVAL_MILLIS = 50;
+
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int maxX;
+    private final int maxY;
+    private final int maxZ;
+    private final int chunkX0;
+    private final int chunkZ0;
+    private final int chunksZ;
+    private final Section[] sections;
+
+    private RegionSnapshot(int x1, int y1, int z1, int x2, int y2, int z2) {
+        this.minX = Math.min(x1, x2);
+        this.minY = Math.min(y1, y2);
+        this.minZ = Math.min(z1, z2);
+        this.maxX = Math.max(x1, x2);
+        this.maxY = Math.max(y1, y2);
+        this.maxZ = Math.max(z1, z2);
+        this.chunkX0 = BlockAccess.toChunk(minX);
+        this.chunkZ0 = BlockAccess.toChunk(minZ);
+        int chunksX = BlockAccess.toChunk(maxX) - chunkX0 + 1;
+        this.chunksZ = BlockAccess.toChunk(maxZ) - chunkZ0 + 1;
+        this.sections = new Section[chunksX * chunksZ];
+    }
+
+    /**
+     * Captures the blocks of a box, spending at most 5 ms per tick on the
+     * world thread.
+     *
+     * @param world the world to capture
+     * @param x1    the X coordinate of a corner
+     * @param y1    the Y coordinate of a corner
+     * @param z1    the Z coordinate of a corner
+     * @param x2    the X coordinate of the opposite corner
+     * @param y2    the Y coordinate of the opposite corner
+     * @param z2    the Z coordinate of the opposite corner
+     * @return a future completed with the snapshot once every chunk column
+     *         was copied
+     */
+    public static CompletableFuture<RegionSnapshot> capture(World world, int x1, int y1, int z1, int x2, int y2,
+            int z2) {
+        return capture(world, x1, y1, z1, x2, y2, z2, DEFAULT_TICK_BUDGET_MILLIS);
+    }
+
+    /**
+     * Captures the blocks of a box.
+     *
+     * @param world            the world to capture
+     * @param x1               the X coordinate of a corner
+     * @param y1               the Y coordinate of a corner
+     * @param z1               the Z coordinate of a corner
+     * @param x2               the X coordinate of the opposite corner
+     * @param y2               the Y coordinate of the opposite corner
+     * @param z2               the Z coordinate of the opposite corner
+     * @param tickBudgetMillis the time the capture may spend on the world
+     *                         thread per tick
+     * @return a future completed with the snapshot once every chunk column
+     *         was copied
+     */
+    public static CompletableFuture<RegionSnapshot> capture(World world, int x1, int y1, int z1, int x2, int y2,
+            int z2, long tickBudgetMillis) {
+        RegionSnapshot snapshot = new RegionSnapshot(x1, y1, z1, x2, y2, z2);
+        CompletableFuture<RegionSnapshot> future = new CompletableFuture<>();
+        if (world == null || world.getNative() == null) {
+            future.complete(snapshot);
+            return future;
+        }
+
+        long budgetNanos = Math.max(1, tickBudgetMillis) * 1_000_000L;
+        int[] next = { 0 };
+        int[] buffer = new int[snapshot.maxColumnVolume()];
+        WorldTasks.repeat(world.getNative(), SLICE_INTERVAL_MILLIS, () -> {
+            long deadline = System.nanoTime() + budgetNanos;
+            try {
+                // At least one column per slice, so the capture always progresses
+                do {
+                    snapshot.captureSection(world.getNative(), next[0]++, buffer);
+                } while (next[0] < snapshot.sections.length && System.nanoTime() < deadline);
+            } catch (Exception e) {
+                future.completeExceptionally(e);
+                return false;
+            }
+
+            if (next[0] < snapshot.sections.length) {
+                return true;
+            }
+            future.complete(snapshot);
+            return false;
+        }, future);
+        return future;
+    }
+
+    /**
+     * Reads a block.
+     *
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param z the Z coordinate
+     * @return the block index, or {@link BlockReader#UNLOADED} if the position
+     *         is outside the snapshot or its chunk was not loaded
+     */
+    public int getBlock(int x, int y, int z) {
+        if (!contains(x, y, z)) {
+            return BlockReader.UNLOADED;
+        }
+        Section section = sections[sectionIndex(BlockAccess.toChunk(x), BlockAccess.toChunk(z))];
+        return section != null ? section.get(section.localIndex(x, y, z)) : BlockReader.UNLOADED;
+    }
+
+    /**
+     * Checks if a position is inside the snapshot.
+     *
+     * @param x the X coordinate
+     * @param y the Y coordinate
+     * @param z the Z coordinate
+     * @return true if the position was captured
+     */
+    public boolean contains(int x, int y, int z) {
+        return x >= minX && x <= maxX && y >= minY && y <= maxY && z >= minZ && z <= maxZ;
+    }
+
+    /**
+     * Visits every captured block, one chunk column after the other.
+     * Blocks of chunks that were not loaded are skipped.
+     *
+     * @param visitor called for each block
+     */
+    public void forEach(BlockReader.Visitor visitor) {
+        for (Section section : sections) {
+            if (section != null) {
+                section.forEach(visitor);
+            }
+        }
+    }
+
+    /**
+     * Visits every captured block in parallel, splitting the work by chunk
+     * column on the common {@link ForkJoinPool}.
+     *
+     * @param visitor called for each block, from several threads at once
+     */
+    public void parallelForEach(BlockReader.Visitor visitor) {
+        ForkJoinPool.commonPool().invoke(new VisitTask(0, sections.length, visitor));
+    }
+
+    /**
+     * Counts the captured blocks matching a predicate, in parallel.
+     * <p>
+     * The predicate is tested once per palette entry of each chunk column
+     * rather than once per block, and columns with no matching entry are not
+     * decoded.
+     * </p>
+     *
+     * @param predicate the predicate, receiving block indexes
+     * @return the number of matching blocks
+     */
+    public long count(IntPredicate predicate) {
+        return ForkJoinPool.commonPool().invoke(new CountTask(0, sections.length, predicate));
+    }
+
+    /**
+     * Finds the first block along a ray.
+     *
+     * @param originX     the X coordinate of the origin
+     * @param originY     the Y coordinate of the origin
+     * @param originZ     the Z coordinate of the origin
+     * @param directionX  the X component of the direction
+     * @param directionY  the Y component of the direction
+     * @param directionZ  the Z component of the direction
+     * @param maxDistance the maximum distance, in blocks, clamped to
+     *                    {@link Raycast#MAX_DISTANCE}
+     * @param filter      matches the block indexes that stop the ray, for
+     *                    example {@link Raycast#NOT_EMPTY}
+     * @return the hit, or null if no block matched within the distance
+     */
+    public RaycastHit raycast(double originX, double originY, double originZ, double directionX, double directionY,
+            double directionZ, double maxDistance, IntPredicate filter) {
+        return Raycast.trace(this::getBlock, originX, originY, originZ, directionX, directionY, directionZ,
+                maxDistance, filter);
+    }
+
+    /**
+     * Checks that no block stops the segment between two points.
+     * <p>
+     * The block containing the second point is ignored, so a solid target
+     * block does not hide itself.
+     * </p>
+     *
+     * @param fromX  the X coordinate of the first point
+     * @param fromY  the Y coordinate of the first point
+     * @param fromZ  the Z coordinate of the first point
+     * @param toX    the X coordinate of the second point
+     * @param toY    the Y coordinate of the second point
+     * @param toZ    the Z coordinate of the second point
+     * @param filter matches the block indexes that block the view
+     * @return true if the second point is visible from the first, false if
+     *         they are farther apart than {@link Raycast#MAX_DISTANCE}
+     */
+    public boolean hasLineOfSight(double fromX, double fromY, double fromZ, double toX, double toY, double toZ,
+            IntPredicate filter) {
+        return Raycast.lineOfSight(this::getBlock, fromX, fromY, fromZ, toX, toY, toZ, filter);
+    }
+
+    /**
+     * Gets the minimum corner of the snapshot.
+     *
+     * @return the X, Y and Z coordinates of the minimum corner
+     */
+    public int[] getMin() {
+        return new int[] { minX, minY, minZ };
+    }
+
+    /**
+     * Gets the maximum corner of the snapshot.
+     *
+     * @return the X, Y and Z coordinates of the maximum corner
+     */
+    public int[] getMax() {
+        return new int[] { maxX, maxY, maxZ };
+    }
+
+    /**
+     * Gets the number of blocks covered by the snapshot.
+     *
+     * @return the volume of the box
+     */
+    public long getVolume() {
+        return (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+    }
+
+    /**
+     * Estimates the memory used by the block data.
+     *
+     * @return the size of the palettes and bit arrays, in bytes
+     */
+    public long getMemoryUsage() {
+        long bytes = 0;
+        for (Section section : sections) {
+            if (section != null) {
+                bytes += section.palette.length * 4L + (section.data != null ? section.data.length * 8L : 0);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Gets the captured chunk columns, in chunk X then Z order.
+     *
+     * @return the sections of loaded chunks
+     */
+    List<Section> capturedSections() {
+        List<Section> captured = new ArrayList<>();
+        for (Section section : sections) {
+            if (section != null) {
+                captured.add(section);
+            }
+        }
+        return captured;
+    }
+
+    private int sectionIndex(int chunkX, int chunkZ) {
+        return (chunkX - chunkX0) * chunksZ + (chunkZ - chunkZ0);
+    }
+
+    private int maxColumnVolume() {
+        int sizeX = Math.min(maxX - minX + 1, BlockAccess.CHUNK_SIZE);
+        int sizeZ = Math.min(maxZ - minZ + 1, BlockAccess.CHUNK_SIZE);
+        return sizeX * sizeZ * (maxY - minY + 1);
+    }
+
+    private void captureSection(com.hypixel.hytale.server.core.universe.world.World world, int index,
+            int[] buffer) {
+        int chunkX = chunkX0 + index / chunksZ;
+        int chunkZ = chunkZ0 + index % chunksZ;
+        WorldChunk chunk = BlockAccess.chunk(world, chunkX, chunkZ);
+        if (chunk == null) {
+            return;
+        }
+
+        int x0 = Math.max(minX, chunkX << BlockAccess.CHUNK_SHIFT);
+        int x1 = Math.min(maxX, (chunkX << BlockAccess.CHUNK_SHIFT) + BlockAccess.CHUNK_SIZE - 1);
+        int z0 = Math.max(minZ, chunkZ << BlockAccess.CHUNK_SHIFT);
+        int z1 = Math.min(maxZ, (chunkZ << BlockAccess.CHUNK_SHIFT) + BlockAccess.CHUNK_SIZE - 1);
+
+        int i = 0;
+        for (int x = x0; x <= x1; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = z0; z <= z1; z++) {
+                    buffer[i++] = BlockAccess.get(chunk, x, y, z);
+                }
+            }
+        }
+        sections[index] = Section.encode(x0, minY, z0, x1 - x0 + 1, maxY - minY + 1, z1 - z0 + 1, buffer, i);
+    }
+
+    /**
+     * The blocks of the snapshot inside one chunk column.
+     */
+    static final class Section {
+        final int x0;
+        final int y0;
+        final int z0;
+        final int sizeX;
+        final int sizeY;
+        final int sizeZ;
+        final int[] palette;
+        final int bits;
+        final long[] data;
+
+        private Section(int x0, int y0, int z0, int sizeX, int sizeY, int sizeZ, int[] palette, int bits,
+                long[] data) {
+            this.x0 = x0;
+            this.y0 = y0;
+            this.z0 = z0;
+            this.sizeX = sizeX;
+            this.sizeY = sizeY;
+            this.sizeZ = sizeZ;
+            this.palette = palette;
+            this.bits = bits;
+            this.data = data;
+        }
+
+        static Section encode(int x0, int y0, int z0, int sizeX, int sizeY, int sizeZ, int[] blocks, int length) {
+            Map<Integer, Integer> paletteIndex = new HashMap<>();
+            int[] entries = new int[length];
+            int[] palette = new int[16];
+            int last = Integer.MIN_VALUE;
+            int lastEntry = -1;
+            for (int i = 0; i < length; i++) {
+                int block = blocks[i];
+                if (block != last) {
+                    // Runs of the same block are common: only look up on changes
+                    Integer entry = paletteIndex.get(block);
+                    if (entry == null) {
+                        entry = paletteIndex.size();
+                        paletteIndex.put(block, entry);
+                        if (entry == palette.length) {
+                            palette = Arrays.copyOf(palette, palette.length * 2);
+                        }
+                        palette[entry] = block;
+                    }
+                    last = block;
+                    lastEntry = entry;
+                }
+                entries[i] = lastEntry;
+            }
+
+            palette = Arrays.copyOf(palette, paletteIndex.size());
+            int bits = palette.length <= 1 ? 0 : 32 - Integer.numberOfLeadingZeros(palette.length - 1);
+            long[] data = bits == 0 ? null : pack(entries, length, bits);
+            return new Section(x0, y0, z0, sizeX, sizeY, sizeZ, palette, bits, data);
+        }
+
+        private static long[] pack(int[] entries, int length, int bits) {
+            int perLong = 64 / bits;
+            long[] data = new long[(length + perLong - 1) / perLong];
+            for (int i = 0; i < length; i++) {
+                data[i / perLong] |= (long) entries[i] << ((i % perLong) * bits);
+            }
+            return data;
+        }
+
+        int localIndex(int x, int y, int z) {
+            return ((x - x0) * sizeY + (y - y0)) * sizeZ + (z - z0);
+        }
+
+        int entry(int index) {
+            if (bits == 0) {
+                return 0;
+            }
+            int perLong = 64 / bits;
+            return (int) ((data[index / perLong] >>> ((index % perLong) * bits)) & ((1L << bits) - 1));
+        }
+
+        int get(int index) {
+            return palette[entry(index)];
+        }
+
+        int volume() {
+            return sizeX * sizeY * sizeZ;
+        }
+
+        void forEach(BlockReader.Visitor visitor) {
+            int i = 0;
+            for (int x = 0; x < sizeX; x++) {
+                for (int y = 0; y < sizeY; y++) {
+                    for (int z = 0; z < sizeZ; z++) {
+                        visitor.visit(x0 + x, y0 + y, z0 + z, get(i++));
+                    }
+                }
+            }
+        }
+
+        long count(IntPredicate predicate) {
+            boolean[] matches = new boolean[palette.length];
+            int matching = 0;
+            for (int p = 0; p < palette.length; p++) {
+                if (predicate.test(palette[p])) {
+                    matches[p] = true;
+                    matching++;
+                }
+            }
+            if (matching == 0) {
+                return 0;
+            }
+            if (matching == palette.length) {
+                return volume();
+            }
+
+            long count = 0;
+            int volume = volume();
+            for (int i = 0; i < volume; i++) {
+                if (matches[entry(i)]) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+
+    private final class VisitTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final BlockReader.Visitor visitor;
+
+        private VisitTask(int from, int to, BlockReader.Visitor visitor) {
+            this.from = from;
+            this.to = to;
+            this.visitor = visitor;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                if (from < to && sections[from] != null) {
+                    sections[from].forEach(visitor);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new VisitTask(from, middle, visitor), new VisitTask(middle, to, visitor));
+        }
+    }
+
+    private final class CountTask extends RecursiveTask<Long> {
+        private final int from;
+        private final int to;
+        private final IntPredicate predicate;
+
+        private CountTask(int from, int to, IntPredicate predicate) {
+            this.from = from;
+            this.to = to;
+            this.predicate = predicate;
+        }
+
+        @Override
+        protected Long compute() {
+            if (to - from <= 1) {
+                return from < to && sections[from] != null ? sections[from].count(predicate) : 0L;
+            }
+            int middle = (from + to) >>> 1;
+            CountTask left = new CountTask(from, middle, predicate);
+            left.fork();
+            long right = new CountTask(middle, to, predicate).compute();
+            return left.join() + right;
+        }
+    }
+}
@@ -0,0 +1,375 @@
+package fr.hytale.loader.api.region;
+
+import fr.hytale.loader.api.World;
+import fr.hytale.loader.internal.BlockAccess;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Region of blocks saved to a compact binary file.
+ * <p>
+ * A schematic file holds a header (size, block ID palette and an index of
+ * chunk columns) followed by one entry per chunk column: a palette of the
+ * blocks it uses and their bit-packed palette entries, optionally deflated.
+ * Schematics are written from a {@link RegionSnapshot}, so saving takes no
+ * world-thread time.
+ * </p>
+ * <p>
+ * {@link #open(Path)} memory-maps the file and only reads the header. Chunk
+ * columns are decoded one at a time while pasting, through the tick-budgeted
+ * {@link EditSession}, so a large schematic is never loaded onto the heap.
+ * </p>
+ *
+ * <pre>{@code
+ * world.captureRegion(0, 60, 0, 127, 100, 127)
+ *         .thenAcceptAsync(snapshot -> Schematic.write(snapshot, arenaFile, true));
+ *
+ * Schematic.open(arenaFile).paste(world, 1000, 60, 1000)
+ *         .thenAccept(blocks -> broadcast("Arena pasted"));
+ * }</pre>
+ *
+ * <p>
+ * Files are mapped in one piece and are limited to 2 GB.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public final class Schematic {
+
+    private static final int MAGIC = 0x484C5343; // "HLSC"
+    private static final short FORMAT_VERSION = 1;
+    private static final short FLAG_DEFLATE = 1;
+    private static final int INDEX_ENTRY_SIZE = 32;
+
+    private final Path path;
+    private final ByteBuffer buffer;
+    private final boolean compressed;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+    private final String[] palette;
+    private final Tile[] tiles;
+
+    private Schematic(Path path, ByteBuffer buffer) throws IOException {
+        this.path = path;
+        this.buffer = buffer;
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a schematic file: " + path);
+            }
+            short version = buffer.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported schematic version " + version + ": " + path);
+            }
+            this.compressed = (buffer.getShort() & FLAG_DEFLATE) != 0;
+            this.sizeX = buffer.getInt();
+            this.sizeY = buffer.getInt();
+            this.sizeZ = buffer.getInt();
+
+            this.palette = new String[buffer.getInt()];
+            for (int i = 0; i < palette.length; i++) {
+                byte[] id = new byte[buffer.getShort() & 0xFFFF];
+                buffer.get(id);
+                palette[i] = new String(id, StandardCharsets.UTF_8);
+            }
+
+            this.tiles = new Tile[buffer.getInt()];
+            for (int i = 0; i < tiles.length; i++) {
+                tiles[i] = new Tile(buffer.getInt(), buffer.getInt(), buffer.getInt(), buffer.getInt(),
+                        buffer.getLong(), buffer.getInt(), buffer.getInt());
+            }
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated schematic file: " + path, e);
+        }
+    }
+
+    /**
+     * Opens a schematic file.
+     * <p>
+     * The file is memory-mapped and only its header is read.
+     * </p>
+     *
+     * @param path the file
+     * @return the schematic
+     * @throws IOException if the file cannot be read or is not a schematic
+     */
+    public static Schematic open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Schematic file too large to map: " + path);
+            }
+            // The mapping stays valid once the channel is closed
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new Schematic(path, mapped);
+        }
+    }
+
+    /**
+     * Writes a snapshot to a schematic file, replacing any existing file.
+     * <p>
+     * The chunk columns of the snapshot are written one after the other. This
+     * is meant to run off the world thread. Chunks that were not loaded when
+     * the snapshot was captured are left out, and are not pasted.
+     * </p>
+     *
+     * @param snapshot the blocks to save
+     * @param path     the file
+     * @param compress true to deflate each chunk column
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(RegionSnapshot snapshot, Path path, boolean compress) throws IOException {
+        int[] min = snapshot.getMin();
+        int[] max = snapshot.getMax();
+        List<RegionSnapshot.Section> sections = snapshot.capturedSections();
+
+        // The palette of the file, by block index of this server
+        Map<Integer, Integer> paletteIndex = new HashMap<>();
+        List<byte[]> ids = new ArrayList<>();
+        int paletteBytes = 0;
+        for (RegionSnapshot.Section section : sections) {
+            for (int block : section.palette) {
+                if (!paletteIndex.containsKey(block)) {
+                    byte[] id = BlockAccess.idOf(block).getBytes(StandardCharsets.UTF_8);
+                    paletteIndex.put(block, ids.size());
+                    ids.add(id);
+                    paletteBytes += 2 + id.length;
+                }
+            }
+        }
+
+        int indexStart = 4 + 2 + 2 + 12 + 4 + paletteBytes + 4;
+        ByteBuffer header = ByteBuffer.allocate(indexStart + sections.size() * INDEX_ENTRY_SIZE);
+        header.putInt(MAGIC).putShort(FORMAT_VERSION).putShort(compress ? FLAG_DEFLATE : 0);
+        header.putInt(max[0] - min[0] + 1).putInt(max[1] - min[1] + 1).putInt(max[2] - min[2] + 1);
+        header.putInt(ids.size());
+        for (byte[] id : ids) {
+            header.putShort((short) id.length).put(id);
+        }
+        header.putInt(sections.size());
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            long offset = header.capacity();
+            for (RegionSnapshot.Section section : sections) {
+                ByteBuffer raw = encode(section, paletteIndex);
+                int rawLength = raw.remaining();
+                ByteBuffer payload = compress ? deflate(raw) : raw;
+                int length = payload.remaining();
+                writeFully(channel, payload, offset);
+
+                header.putInt(section.x0 - min[0]).putInt(section.z0 - min[2]);
+                header.putInt(section.sizeX).putInt(section.sizeZ);
+                header.putLong(offset).putInt(length).putInt(rawLength);
+                offset += length;
+            }
+
+            // Written last, so the index points at the columns actually written
+            header.flip();
+            writeFully(channel, header, 0);
+        }
+    }
+
+    /**
+     * Pastes the schematic with the default edit session settings.
+     *
+     * @param world the world to paste into
+     * @param x     the X coordinate of the minimum corner
+     * @param y     the Y coordinate of the minimum corner
+     * @param z     the Z coordinate of the minimum corner
+     * @return a future completed with the number of blocks written
+     * @see EditSession#paste(Schematic, int, int, int)
+     */
+    public CompletableFuture<Long> paste(World world, int x, int y, int z) {
+        return world.newEditSession().paste(this, x, y, z).commit();
+    }
+
+    /**
+     * Gets the size of the schematic along the X axis.
+     *
+     * @return the size, in blocks
+     */
+    public int getSizeX() {
+        return sizeX;
+    }
+
+    /**
+     * Gets the size of the schematic along the Y axis.
+     *
+     * @return the size, in blocks
+     */
+    public int getSizeY() {
+        return sizeY;
+    }
+
+    /**
+     * Gets the size of the schematic along the Z axis.
+     *
+     * @return the size, in blocks
+     */
+    public int getSizeZ() {
+        return sizeZ;
+    }
+
+    /**
+     * Gets the block IDs used by the schematic.
+     *
+     * @return a copy of the palette
+     */
+    public String[] getPalette() {
+        return palette.clone();
+    }
+
+    /**
+     * Gets the file the schematic was opened from.
+     *
+     * @return the path
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    int getTileCount() {
+        return tiles.length;
+    }
+
+    Tile getTile(int index) {
+        return tiles[index];
+    }
+
+    private static ByteBuffer encode(RegionSnapshot.Section section, Map<Integer, Integer> paletteIndex) {
+        int dataLength = section.data != null ? section.data.length : 0;
+        ByteBuffer raw = ByteBuffer.allocate(4 + section.palette.length * 4 + 1 + 4 + dataLength * 8);
+        raw.putInt(section.palette.length);
+        for (int block : section.palette) {
+            raw.putInt(paletteIndex.get(block));
+        }
+        // Same packing as the snapshot, so entries are copied as they are
+        raw.put((byte) section.bits).putInt(dataLength);
+        for (int i = 0; i < dataLength; i++) {
+            raw.putLong(section.data[i]);
+        }
+        return raw.flip();
+    }
+
+    private static ByteBuffer deflate(ByteBuffer raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return ByteBuffer.wrap(out.toByteArray());
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer data, long position) throws IOException {
+        while (data.hasRemaining()) {
+            position += channel.write(data, position);
+        }
+    }
+
+    /**
+     * A chunk column of the schematic, decoded on demand.
+     */
+    final class Tile {
+        final int x0;
+        final int z0;
+        final int sizeX;
+        final int sizeZ;
+        private final long offset;
+        private final int length;
+        private final int rawLength;
+
+        private Tile(int x0, int z0, int sizeX, int sizeZ, long offset, int length, int rawLength) {
+            this.x0 = x0;
+            this.z0 = z0;
+            this.sizeX = sizeX;
+            this.sizeZ = sizeZ;
+            this.offset = offset;
+            this.length = length;
+            this.rawLength = rawLength;
+        }
+
+        /**
+         * Reads the blocks of the column from the file.
+         *
+         * @return the decoded column
+         * @throws IllegalStateException if the column is corrupted
+         */
+        Blocks decode() {
+            // Absolute slice, so columns can be decoded from several threads
+            ByteBuffer payload = buffer.slice((int) offset, length);
+            try {
+                if (compressed) {
+                    ByteBuffer raw = ByteBuffer.allocate(rawLength);
+                    Inflater inflater = new Inflater();
+                    try {
+                        inflater.setInput(payload);
+                        inflater.inflate(raw);
+                    } finally {
+                        inflater.end();
+                    }
+                    payload = raw.flip();
+                }
+
+                String[] ids = new String[payload.getInt()];
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = palette[payload.getInt()];
+                }
+                int bits = payload.get();
+                long[] data = new long[payload.getInt()];
+                payload.asLongBuffer().get(data);
+                return new Blocks(ids, bits, data);
+            } catch (DataFormatException | RuntimeException e) {
+                throw new IllegalStateException("Corrupted schematic column at offset " + offset + ": " + path, e);
+            }
+        }
+    }
+
+    /**
+     * The blocks of a decoded column, in the order of
+     * {@link RegionSnapshot} sections: X, then Y, then Z.
+     */
+    static final class Blocks {
+        private final String[] ids;
+        private final int bits;
+        private final long[] data;
+
+        private Blocks(String[] ids, int bits, long[] data) {
+            this.ids = ids;
+            this.bits = bits;
+            this.data = data;
+        }
+
+        String get(int index) {
+            if (bits == 0) {
+                return ids[0];
+            }
+            int perLong = 64 / bits;
+            return ids[(int) ((data[index / perLong] >>> ((index % perLong) * bits)) & ((1L << bits) - 1))];
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package fr.hytale.loader.command;
+
+import java.util.List;
+
+/**
+ * Compile-time index of the {@link Command} methods declared by a command
+ * container class.
+ * <p>
+ * Implementations are generated by
+ * {@link fr.hytale.loader.processor.RegistrationIndexProcessor} next to each
+ * container class, under the container's binary name followed by
+ * {@link #SUFFIX}. When an index is present, {@link CommandScanner} uses it
+ * instead of scanning the class with reflection.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ * @see IndexedCommand
+ */
+public interface CommandIndex {
+
+    /**
+     * Suffix appended to the container's binary class name to locate its index.
+     */
+    String SUFFIX = "$$HLCommandIndex";
+
+    /**
+     * Gets the commands declared by the indexed class.
+     *
+     * @return the indexed commands, in declaration order
+     */
+    List<IndexedCommand> getCommands();
+}
@@ -35,37 +35,80 @@ public class CommandScanner {
     /**
      * Registers all command methods in a container object.
      * <p>
-     * Scans the container for methods annotated with {@link Command} and
-     * automatically registers them with the plugin's command registry.
+     * If the container class was compiled with the HytaleLoader annotation
+     * processor, its generated {@link CommandIndex} is used. Otherwise, the
+     * container is scanned for methods annotated with {@link Command}.
+     * Commands are automatically registered with the plugin's command registry.
      * </p>
      * 
      * @param plugin    the plugin that owns these commands
      * @param container the object containing command handler methods
      */
     public static void registerCommands(SimplePlugin plugin, Object container) {
+        CommandIndex index = findIndex(container.getClass());
+        if (index != null) {
+            for (IndexedCommand command : index.getCommands()) {
+                Method method;
+                try {
+                    method = container.getClass().getDeclaredMethod(command.getMethodName(),
+                            command.getParameterTypes());
+                } catch (NoSuchMethodException e) {
+                    plugin.getLogger().at(java.util.logging.Level.WARNING).log("Indexed command "
+                            + command.getMethodName() + " not found in " + container.getClass().getName());
+                    continue;
+                }
+
+                register(plugin, container, method, command.getName(), command.getDescription(),
+                        command.requiresConfirmation(), command.getPermission(), command.getAliases());
+            }
+            return;
+        }
+
         for (Method method : container.getClass().getDeclaredMethods()) {
             Command annotation = method.getAnnotation(Command.class);
             if (annotation == null)
                 continue;
 
-            method.setAccessible(true);
+            register(plugin, container, method, annotation.name(), annotation.description(),
+                    annotation.requiresConfirmation(), annotation.permission(), annotation.aliases());
+        }
+    }
+
+    /**
+     * Loads the generated index of a command container class.
+     * 
+     * @param containerClass the container class
+     * @return the index, or null if the class was not processed
+     */
+    private static CommandIndex findIndex(Class<?> containerClass) {
+        try {
+            Class<?> indexClass = Class.forName(containerClass.getName() + CommandIndex.SUFFIX, true,
+                    containerClass.getClassLoader());
+            return (CommandIndex) indexClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+            return null;
+        }
+    }
 
-            SimpleCommand cmd = new SimpleCommand(
-                    annotation.name(),
-                    annotation.description(),
-                    annotation.requiresConfirmation(),
-                    method,
-                    container);
+    private static void register(SimplePlugin plugin, Object container, Method method, String name,
+            String description, boolean requiresConfirmation, String permission, String[] aliases) {
+        method.setAccessible(true);
 
-            if (!annotation.permission().isEmpty()) {
-                cmd.requirePermission(annotation.permission());
-            }
+        SimpleCommand cmd = new SimpleCommand(
+                name,
+                description,
+                requiresConfirmation,
+                method,
+                container);
 
-            if (annotation.aliases().length > 0) {
-                cmd.addAliases(annotation.aliases());
-            }
+        if (!permission.isEmpty()) {
+            cmd.requirePermission(permission);
+        }
 
-            plugin.getCommandRegistry().registerCommand(cmd);
+        if (aliases.length > 0) {
+            cmd.addAliases(aliases);
         }
+
+        plugin.getCommandRegistry().registerCommand(cmd);
     }
 }
@@ -3,6 +3,7 @@ package fr.hytale.loader.command;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import fr.hytale.loader.api.Player;
+import fr.hytale.loader.internal.PlayerRegistry;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -55,7 +56,7 @@ public class CommandUtils {
 
             PlayerRef playerRef = nativePlayer.getPlayerRef();
 
-            return new Player(nativePlayer, playerRef);
+            return PlayerRegistry.wrap(nativePlayer, playerRef);
         } catch (Exception e) {
             return null;
         }
@@ -0,0 +1,87 @@
+package fr.hytale.loader.command;
+
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.command.system.CommandContext;
+import fr.hytale.loader.event.HandlerMetrics;
+import fr.hytale.loader.event.HandlerStats;
+import fr.hytale.loader.internal.LoaderRuntime;
+
+import java.util.List;
+
+/**
+ * Built-in command showing the slowest event handlers.
+ * <p>
+ * Registered once by the HytaleLoader runtime. Usage:
+ * {@code /hlhandlers [limit]} lists the handlers with the highest p99
+ * latency, {@code /hlhandlers on}, {@code off} and {@code reset} control
+ * recording. Internal systems that failed to register, and whose events
+ * are therefore never dispatched, are listed first.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ * @see HandlerMetrics
+ */
+public class HandlerStatsCommand {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    /**
+     * Shows handler timings or toggles recording.
+     *
+     * @param ctx    the command context
+     * @param action {@code on}, {@code off}, {@code reset} or the number of
+     *               handlers to show
+     */
+    @Command(name = "hlhandlers", description = "Shows the slowest HytaleLoader event handlers", permission = "hytaleloader.handlers")
+    public void onHandlers(CommandContext ctx,
+            @Arg(name = "action", description = "on, off, reset or number of handlers", optional = true) String action) {
+        if ("on".equalsIgnoreCase(action)) {
+            HandlerMetrics.setEnabled(true);
+            ctx.sender().sendMessage(Message.raw("Event handler timing enabled."));
+            return;
+        }
+        if ("off".equalsIgnoreCase(action)) {
+            HandlerMetrics.setEnabled(false);
+            ctx.sender().sendMessage(Message.raw("Event handler timing disabled."));
+            return;
+        }
+        if ("reset".equalsIgnoreCase(action)) {
+            HandlerMetrics.reset();
+            ctx.sender().sendMessage(Message.raw("Event handler timings cleared."));
+            return;
+        }
+
+        int limit = DEFAULT_LIMIT;
+        if (action != null && !action.isEmpty()) {
+            try {
+                limit = Math.max(1, Integer.parseInt(action));
+            } catch (NumberFormatException e) {
+                ctx.sender().sendMessage(Message.raw("Usage: /hlhandlers [on|off|reset|limit]"));
+                return;
+            }
+        }
+
+        List<String> failedSystems = LoaderRuntime.getFailedSystems();
+        if (!failedSystems.isEmpty()) {
+            ctx.sender().sendMessage(Message.raw("Not dispatching (registration failed): "
+                    + String.join(", ", failedSystems)));
+        }
+
+        if (!HandlerMetrics.isEnabled()) {
+            ctx.sender().sendMessage(Message.raw("Event handler timing is disabled. Use /hlhandlers on."));
+        }
+
+        List<HandlerStats> stats = HandlerMetrics.getStats();
+        if (stats.isEmpty()) {
+            ctx.sender().sendMessage(Message.raw("No event handlers registered."));
+            return;
+        }
+
+        ctx.sender().sendMessage(Message.raw("Slowest event handlers (by p99):"));
+        for (int i = 0; i < Math.min(limit, stats.size()); i++) {
+            ctx.sender().sendMessage(Message.raw((i + 1) + ". " + stats.get(i)));
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package fr.hytale.loader.command;
+
+/**
+ * A single {@link Command} method recorded in a {@link CommandIndex}.
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ * @see CommandIndex
+ */
+public final class IndexedCommand {
+
+    private final String name;
+    private final String description;
+    private final String[] aliases;
+    private final String permission;
+    private final boolean requiresConfirmation;
+    private final String methodName;
+    private final Class<?>[] parameterTypes;
+
+    /**
+     * Constructs a new IndexedCommand.
+     *
+     * @param name                 the command name
+     * @param description          the command description
+     * @param aliases              the command aliases
+     * @param permission           the required permission, or an empty string
+     * @param requiresConfirmation whether the command requires confirmation
+     * @param methodName           the name of the command method
+     * @param parameterTypes       the parameter types of the command method
+     */
+    public IndexedCommand(String name, String description, String[] aliases, String permission,
+            boolean requiresConfirmation, String methodName, Class<?>[] parameterTypes) {
+        this.name = name;
+        this.description = description;
+        this.aliases = aliases;
+        this.permission = permission;
+        this.requiresConfirmation = requiresConfirmation;
+        this.methodName = methodName;
+        this.parameterTypes = parameterTypes;
+    }
+
+    /**
+     * Gets the command name.
+     *
+     * @return the command name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the command description.
+     *
+     * @return the description
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Gets the command aliases.
+     *
+     * @return the aliases
+     */
+    public String[] getAliases() {
+        return aliases;
+    }
+
+    /**
+     * Gets the permission required to run the command.
+     *
+     * @return the permission node, or an empty string
+     */
+    public String getPermission() {
+        return permission;
+    }
+
+    /**
+     * Checks whether the command requires confirmation.
+     *
+     * @return true if confirmation is required
+     */
+    public boolean requiresConfirmation() {
+        return requiresConfirmation;
+    }
+
+    /**
+     * Gets the name of the command method.
+     *
+     * @return the method name
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Gets the parameter types of the command method.
+     *
+     * @return the parameter types
+     */
+    public Class<?>[] getParameterTypes() {
+        return parameterTypes;
+    }
+}
@@ -0,0 +1,54 @@
+package fr.hytale.loader.event;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method as a batched event handler.
+ * <p>
+ * Instead of being called for every event, a batched handler receives a
+ * {@code List} of immutable event records once per tick, on a HytaleLoader
+ * worker thread. This keeps heavy processing such as analytics or logging off
+ * the world thread. The method must have exactly one parameter, a
+ * {@code List} of a record type from {@code fr.hytale.loader.event.batch}.
+ * </p>
+ * <p>
+ * Records are captured after the regular {@link EventHandler} methods ran, so
+ * they reflect the final state of the event (including cancellation). Batched
+ * handlers cannot modify or cancel events.
+ * </p>
+ * 
+ * <h2>Usage Example:</h2>
+ * 
+ * <pre>
+ * {@code
+ * @BatchEventHandler
+ * public void onBlocksBroken(List<BreakBlockRecord> records) {
+ *     for (BreakBlockRecord record : records) {
+ *         stats.increment(record.getBlockId());
+ *     }
+ * }
+ * }
+ * </pre>
+ * 
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ * @see fr.hytale.loader.event.batch.EventBatcher
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface BatchEventHandler {
+    /**
+     * The maximum number of records per batch.
+     * <p>
+     * When the buffer reaches this size, it is delivered without waiting for
+     * the end of the tick. Default is {@code 0} (one batch per tick).
+     * </p>
+     * 
+     * @return the maximum batch size, or 0 for no limit
+     */
+    int maxSize() default 0;
+}
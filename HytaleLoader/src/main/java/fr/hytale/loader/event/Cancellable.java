@@ -0,0 +1,30 @@
+package fr.hytale.loader.event;
+
+/**
+ * An event that can be cancelled by its handlers.
+ * <p>
+ * Handlers declared with {@code @EventHandler(ignoreCancelled = true)} are not
+ * called for events that are already cancelled when they are reached.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ * @see EventHandler#ignoreCancelled()
+ */
+public interface Cancellable {
+
+    /**
+     * Checks if this event has been cancelled.
+     *
+     * @return true if cancelled, false otherwise
+     */
+    boolean isCancelled();
+
+    /**
+     * Sets the cancelled state of this event.
+     *
+     * @param cancelled true to cancel, false to allow
+     */
+    void setCancelled(boolean cancelled);
+}
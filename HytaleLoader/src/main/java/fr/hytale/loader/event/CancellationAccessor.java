@@ -0,0 +1,104 @@
+package fr.hytale.loader.event;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Resolves, once per event class, how to read the cancelled state of an
+ * event.
+ * <p>
+ * {@link Cancellable} events are read through the interface. Other events
+ * exposing a public {@code boolean isCancelled()} method (such as native
+ * Hytale events) are read through a method handle. The result is cached per
+ * class, so handlers declared with
+ * {@code @EventHandler(ignoreCancelled = true)} only pay for a single call
+ * before being skipped.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ * @see EventHandler#ignoreCancelled()
+ */
+final class CancellationAccessor {
+
+    private static final Predicate<Object> CANCELLABLE = event -> ((Cancellable) event).isCancelled();
+
+    private static final ClassValue<Predicate<Object>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Predicate<Object> computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private CancellationAccessor() {
+        // Utility class
+    }
+
+    /**
+     * Gets the cancellation accessor of an event class.
+     *
+     * @param eventType the event class
+     * @return a predicate returning true for cancelled events, or null if the
+     *         event cannot be cancelled
+     */
+    static Predicate<Object> forType(Class<?> eventType) {
+        return ACCESSORS.get(eventType);
+    }
+
+    /**
+     * Wraps an invoker so it is skipped for cancelled events.
+     *
+     * @param eventType the event class handled by the invoker
+     * @param invoker   the handler invoker
+     * @return the filtering invoker, or null if the event cannot be cancelled
+     */
+    static Consumer<Object> skipCancelled(Class<?> eventType, Consumer<Object> invoker) {
+        Predicate<Object> cancelled = forType(eventType);
+        if (cancelled == null) {
+            return null;
+        }
+        return event -> {
+            if (!cancelled.test(event)) {
+                invoker.accept(event);
+            }
+        };
+    }
+
+    private static Predicate<Object> resolve(Class<?> type) {
+        if (Cancellable.class.isAssignableFrom(type)) {
+            return CANCELLABLE;
+        }
+
+        Method method;
+        try {
+            method = type.getMethod("isCancelled");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        if (method.getReturnType() != boolean.class || Modifier.isStatic(method.getModifiers())) {
+            return null;
+        }
+
+        try {
+            MethodHandle handle = MethodHandles.publicLookup().unreflect(method)
+                    .asType(MethodType.methodType(boolean.class, Object.class));
+            return event -> {
+                try {
+                    return (boolean) handle.invokeExact(event);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable t) {
+                    throw new RuntimeException(t);
+                }
+            };
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+}
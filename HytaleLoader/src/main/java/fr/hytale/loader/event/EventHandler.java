@@ -28,6 +28,21 @@ import java.lang.annotation.Target;
  * public void onPlayerChat(PlayerChatEvent event) {
  *     // This handler runs with HIGH priority
  * }
+ * 
+ * @EventHandler(ignoreCancelled = true)
+ * public void onBreak(BreakBlockEvent event) {
+ *     // Never called if another handler cancelled the event
+ * }
+ * 
+ * @EventHandler(blocks = { "Rock_Magma_Cooled", "Rock_Sand_Brick" })
+ * public void onRockBroken(BreakBlockEvent event) {
+ *     // Only called for these two blocks
+ * }
+ * 
+ * @EventHandler(coalesce = true)
+ * public void onMouseMotion(PlayerMouseMotionEvent event) {
+ *     // Only called with the latest mouse position of each player
+ * }
  * }
  * </pre>
  * 
@@ -49,4 +64,73 @@ public @interface EventHandler {
      * @return the event priority
      */
     EventPriority priority() default EventPriority.NORMAL;
+
+    /**
+     * Whether this handler only needs the latest event of a burst.
+     * <p>
+     * Coalesced handlers are not called for every event. Instead, the most
+     * recent event of each player is kept and delivered at most once per
+     * world tick, or at the interval set with
+     * {@link MouseMotionCoalescer#setFlushInterval(long)}. Coalesced events
+     * are delivered after the fact, so cancelling them has no effect.
+     * </p>
+     * <p>
+     * Currently only supported for
+     * {@link fr.hytale.loader.event.types.player.PlayerMouseMotionEvent}.
+     * Default is {@code false}.
+     * </p>
+     * 
+     * @return true to only receive the latest event
+     * @since 1.0.7
+     */
+    boolean coalesce() default false;
+
+    /**
+     * Whether this handler should be skipped for cancelled events.
+     * <p>
+     * The cancelled state is checked before the handler is invoked, so a
+     * skipped handler costs a single call. Works for every {@link Cancellable}
+     * event and for any event exposing a public {@code isCancelled()} method.
+     * Default is {@code false}.
+     * </p>
+     * 
+     * @return true to ignore cancelled events
+     * @since 1.0.7
+     */
+    boolean ignoreCancelled() default false;
+
+    /**
+     * The block type IDs this handler listens to.
+     * <p>
+     * If not empty, the handler is only called for events on one of these
+     * blocks. Filtered handlers are indexed by ID when registered, so events
+     * on other blocks never reach them. Supported by the block events of
+     * {@code event.types.ecs} (see {@link FilteredEventRouter}). Default is
+     * empty (all blocks).
+     * </p>
+     * <p>
+     * The filtered handlers of a plugin, event type and priority share one
+     * bus registration, made when the first of them is registered. They run
+     * at that slot, so their order relative to unfiltered handlers of the
+     * same priority follows the first filtered handler, not each handler's
+     * own declaration order.
+     * </p>
+     * 
+     * @return the block type IDs
+     * @since 1.0.7
+     */
+    String[] blocks() default {};
+
+    /**
+     * The item IDs this handler listens to.
+     * <p>
+     * If not empty, the handler is only called for events involving one of
+     * these items (item in hand, or dropped item). Combined with
+     * {@link #blocks()}, both must match. Default is empty (all items).
+     * </p>
+     * 
+     * @return the item IDs
+     * @since 1.0.7
+     */
+    String[] items() default {};
 }
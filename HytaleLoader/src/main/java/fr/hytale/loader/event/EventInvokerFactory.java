@@ -0,0 +1,148 @@
+package fr.hytale.loader.event;
+
+import com.hypixel.hytale.logger.HytaleLogger;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Creates direct invokers for {@link EventHandler} methods.
+ * <p>
+ * Invokers are generated with {@link LambdaMetafactory}, which spins a small
+ * hidden class calling the handler method directly. Unlike
+ * {@link Method#invoke(Object, Object...)}, the generated call site has no
+ * access checks or argument array boxing and can be inlined by the JIT.
+ * </p>
+ * <p>
+ * The factory needs a lookup with full privilege in the handler's module.
+ * Mods are loaded by their own class loader, so HytaleLoader's lookup does
+ * not qualify: the lookup is taken from the {@link HandlerIndex} generated in
+ * the mod instead ({@link HandlerIndex#lookup()}). Without one, handlers of
+ * other class loaders get a reflective invoker. If the factory fails for
+ * another reason, a reflective invoker is returned too and a warning naming
+ * the handler is logged.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ * @see EventScanner
+ */
+public final class EventInvokerFactory {
+
+    private static final MethodType CONSUMER_SAM = MethodType.methodType(void.class, Object.class);
+
+    private EventInvokerFactory() {
+        // Utility class
+    }
+
+    /**
+     * Creates an invoker calling {@code method} on {@code listener}.
+     *
+     * @param listener the object declaring the handler (ignored for static
+     *                 methods)
+     * @param method   the handler method, taking exactly one parameter
+     * @return a consumer that invokes the handler with the given event
+     */
+    public static Consumer<Object> create(Object listener, Method method) {
+        return create(listener, method, null);
+    }
+
+    /**
+     * Creates an invoker calling {@code method} on {@code listener}, using a
+     * lookup from the handler's class loader.
+     *
+     * @param listener the object declaring the handler (ignored for static
+     *                 methods)
+     * @param method   the handler method, taking exactly one parameter
+     * @param lookup   a full privilege lookup from the module declaring the
+     *                 handler, or null to use HytaleLoader's own
+     * @return a consumer that invokes the handler with the given event
+     */
+    public static Consumer<Object> create(Object listener, Method method, MethodHandles.Lookup lookup) {
+        try {
+            MethodHandles.Lookup ownerLookup = MethodHandles.privateLookupIn(method.getDeclaringClass(),
+                    lookup != null ? lookup : MethodHandles.lookup());
+            if (ownerLookup.hasFullPrivilegeAccess()) {
+                return createGenerated(ownerLookup, listener, method);
+            }
+            // Another module: the factory would reject HytaleLoader as the caller
+            return createReflective(listener, method);
+        } catch (Throwable t) {
+            // Called once per handler registration, so this is logged once per handler
+            HytaleLogger.getLogger().at(Level.WARNING).log("[HytaleLoader] Could not generate an invoker for "
+                    + method.getDeclaringClass().getName() + "#" + method.getName()
+                    + ", falling back to reflection: " + t);
+            return createReflective(listener, method);
+        }
+    }
+
+    /**
+     * Creates an invoker using {@link LambdaMetafactory}.
+     *
+     * @param lookup   a full privilege lookup in the class declaring the
+     *                 handler
+     * @param listener the object declaring the handler
+     * @param method   the handler method
+     * @return the generated invoker
+     * @throws Throwable if the lambda could not be generated
+     */
+    @SuppressWarnings("unchecked")
+    static Consumer<Object> createGenerated(MethodHandles.Lookup lookup, Object listener, Method method)
+            throws Throwable {
+        Class<?> owner = method.getDeclaringClass();
+        MethodHandle handle = lookup.unreflect(method);
+
+        boolean isStatic = Modifier.isStatic(method.getModifiers());
+        MethodType factoryType = isStatic
+                ? MethodType.methodType(Consumer.class)
+                : MethodType.methodType(Consumer.class, owner);
+        MethodType instantiatedType = MethodType.methodType(void.class, method.getParameterTypes()[0]);
+
+        CallSite site = LambdaMetafactory.metafactory(
+                lookup,
+                "accept",
+                factoryType,
+                CONSUMER_SAM,
+                handle,
+                instantiatedType);
+
+        MethodHandle factory = site.getTarget();
+        return (Consumer<Object>) (isStatic ? factory.invoke() : factory.invoke(listener));
+    }
+
+    /**
+     * Creates an invoker using {@link Method#invoke(Object, Object...)}.
+     *
+     * @param listener the object declaring the handler
+     * @param method   the handler method
+     * @return the reflective invoker
+     */
+    static Consumer<Object> createReflective(Object listener, Method method) {
+        method.setAccessible(true);
+        return event -> {
+            try {
+                method.invoke(listener, event);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new RuntimeException(cause);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+}
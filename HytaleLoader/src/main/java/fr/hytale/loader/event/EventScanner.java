@@ -4,8 +4,14 @@ import com.hypixel.hytale.event.EventRegistry;
 import com.hypixel.hytale.event.EventPriority;
 import com.hypixel.hytale.event.IBaseEvent;
 import com.hypixel.hytale.event.IAsyncEvent;
+import fr.hytale.loader.event.batch.EventBatcher;
+import fr.hytale.loader.event.types.player.PlayerMouseMotionEvent;
 import fr.hytale.loader.plugin.SimplePlugin;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -18,6 +24,11 @@ import java.util.function.Function;
  * and registers them with the Hytale event bus. It handles both sync and async
  * events, as well as event priorities.
  * </p>
+ * <p>
+ * Each handler is called through an invoker created by
+ * {@link EventInvokerFactory}, so dispatch does not go through reflection,
+ * and is timed by {@link HandlerMetrics} when metrics are enabled.
+ * </p>
  * 
  * @author HytaleLoader
  * @version 1.0.7
@@ -29,8 +40,11 @@ public class EventScanner {
     /**
      * Registers all event handler methods in a listener object.
      * <p>
-     * Scans the listener for methods annotated with {@link EventHandler} and
-     * automatically registers them with the plugin's event registry.
+     * If the listener class was compiled with the HytaleLoader annotation
+     * processor, its generated {@link HandlerIndex} is used. Otherwise, the
+     * listener is scanned for methods annotated with {@link EventHandler} or
+     * {@link BatchEventHandler}.
+     * Handlers are automatically registered with the plugin's event registry.
      * </p>
      * 
      * @param plugin   the plugin that owns this listener
@@ -39,9 +53,70 @@ public class EventScanner {
     public static void registerListeners(SimplePlugin plugin, SimpleListener listener) {
         EventRegistry registry = plugin.getEventRegistry();
 
+        HandlerIndex index = findIndex(listener.getClass());
+        if (index != null) {
+            for (IndexedHandler handler : index.getHandlers(listener)) {
+                if (!isValidEventType(plugin, handler.getMethodName(), handler.getEventType())) {
+                    continue;
+                }
+
+                Consumer<Object> invoker = handler.getInvoker();
+                if (invoker == null) {
+                    try {
+                        Method method = listener.getClass().getDeclaredMethod(handler.getMethodName(),
+                                handler.getEventType());
+                        invoker = EventInvokerFactory.create(listener, method, index.lookup());
+                    } catch (NoSuchMethodException e) {
+                        plugin.getLogger().at(java.util.logging.Level.WARNING).log("Indexed handler "
+                                + handler.getMethodName() + " not found in " + listener.getClass().getName());
+                        continue;
+                    }
+                }
+
+                register(plugin, registry, listener.getClass(), handler, invoker);
+            }
+
+            for (IndexedBatchHandler handler : index.getBatchHandlers(listener)) {
+                Consumer<Object> invoker = handler.getInvoker();
+                if (invoker == null) {
+                    try {
+                        Method method = listener.getClass().getDeclaredMethod(handler.getMethodName(), List.class);
+                        invoker = EventInvokerFactory.create(listener, method, index.lookup());
+                    } catch (NoSuchMethodException e) {
+                        plugin.getLogger().at(java.util.logging.Level.WARNING).log("Indexed batch handler "
+                                + handler.getMethodName() + " not found in " + listener.getClass().getName());
+                        continue;
+                    }
+                }
+
+                registerBatch(plugin, handler.getMethodName(), handler.getRecordType(), handler.getMaxSize(),
+                        invoker);
+            }
+            return;
+        }
+
+        MethodHandles.Lookup lookup = findLookup(plugin, listener.getClass());
         for (Method method : listener.getClass().getDeclaredMethods()) {
+            if (method.isBridge() || method.isSynthetic()) {
+                continue;
+            }
+
+            BatchEventHandler batch = method.getAnnotation(BatchEventHandler.class);
+            if (batch != null) {
+                Class<?> recordType = getRecordType(method);
+                if (recordType == null) {
+                    plugin.getLogger().at(java.util.logging.Level.WARNING).log("Method " + method.getName() + " in "
+                            + listener.getClass().getName()
+                            + " has @BatchEventHandler but is not declared as method(List<RecordType>).");
+                    continue;
+                }
+                registerBatch(plugin, method.getName(), recordType, batch.maxSize(),
+                        EventInvokerFactory.create(listener, method, lookup));
+                continue;
+            }
+
             EventHandler annotation = method.getAnnotation(EventHandler.class);
-            if (annotation == null || method.isBridge() || method.isSynthetic()) {
+            if (annotation == null) {
                 continue;
             }
 
@@ -56,29 +131,152 @@ public class EventScanner {
 
             Class<?> eventType = method.getParameterTypes()[0];
 
-            if (!IBaseEvent.class.isAssignableFrom(eventType)) {
-                plugin.getLogger().at(java.util.logging.Level.WARNING)
-                        .log("Method " + method.getName() + " has parameter " + eventType.getName()
-                                + " which is not an IBaseEvent.");
+            if (!isValidEventType(plugin, method.getName(), eventType)) {
                 continue;
             }
 
-            EventPriority priority = annotation.priority();
+            IndexedHandler handler = new IndexedHandler(method.getName(), eventType, annotation.priority(), null,
+                    annotation.coalesce(), annotation.ignoreCancelled(), annotation.blocks(), annotation.items());
+            register(plugin, registry, listener.getClass(), handler, EventInvokerFactory.create(listener, method, lookup));
+        }
+    }
+
+    /**
+     * Loads the generated index of a listener class.
+     * 
+     * @param listenerClass the listener class
+     * @return the index, or null if the class was not processed
+     */
+    private static HandlerIndex findIndex(Class<?> listenerClass) {
+        try {
+            Class<?> indexClass = Class.forName(listenerClass.getName() + HandlerIndex.SUFFIX, true,
+                    listenerClass.getClassLoader());
+            return (HandlerIndex) indexClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException | LinkageError e) {
+            return null;
+        }
+    }
 
-            if (IAsyncEvent.class.isAssignableFrom(eventType)) {
-                registerAsync(registry, priority, (Class<? extends IAsyncEvent>) eventType, listener, method);
+    /**
+     * Gets a lookup from the class loader of a listener that has no index.
+     * <p>
+     * The index of the plugin class is used when the plugin and the listener
+     * share a class loader, so their handlers still get generated invokers.
+     * </p>
+     * 
+     * @param plugin        the plugin that owns the listener
+     * @param listenerClass the listener class
+     * @return the lookup, or null if none is available
+     */
+    private static MethodHandles.Lookup findLookup(SimplePlugin plugin, Class<?> listenerClass) {
+        if (plugin.getClass().getClassLoader() != listenerClass.getClassLoader()) {
+            return null;
+        }
+        HandlerIndex index = findIndex(plugin.getClass());
+        return index != null ? index.lookup() : null;
+    }
+
+    /**
+     * Gets the record type of a batch handler declared as
+     * {@code method(List<RecordType>)}.
+     * 
+     * @param method the handler method
+     * @return the record class, or null if the signature is invalid
+     */
+    private static Class<?> getRecordType(Method method) {
+        if (method.getParameterCount() != 1 || method.getParameterTypes()[0] != List.class) {
+            return null;
+        }
+        Type type = method.getGenericParameterTypes()[0];
+        if (type instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) type).getActualTypeArguments()[0];
+            if (argument instanceof Class) {
+                return (Class<?>) argument;
+            }
+        }
+        return null;
+    }
+
+    private static void registerBatch(SimplePlugin plugin, String methodName, Class<?> recordType, int maxSize,
+            Consumer<Object> invoker) {
+        if (!EventBatcher.isSupported(recordType)) {
+            plugin.getLogger().at(java.util.logging.Level.WARNING).log("Method " + methodName
+                    + " has @BatchEventHandler for " + recordType.getName() + ", which is not a batch record type.");
+            return;
+        }
+        EventBatcher.subscribe(plugin, recordType, maxSize, invoker);
+    }
+
+    private static boolean isValidEventType(SimplePlugin plugin, String methodName, Class<?> eventType) {
+        if (!IBaseEvent.class.isAssignableFrom(eventType)) {
+            plugin.getLogger().at(java.util.logging.Level.WARNING)
+                    .log("Method " + methodName + " has parameter " + eventType.getName()
+                            + " which is not an IBaseEvent.");
+            return false;
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void register(SimplePlugin plugin, EventRegistry registry, Class<?> listenerClass,
+            IndexedHandler handler, Consumer<Object> handlerInvoker) {
+        Class<?> eventType = handler.getEventType();
+        EventPriority priority = handler.getPriority();
+        Consumer<Object> invoker = HandlerMetrics.instrument(plugin, listenerClass, handler, handlerInvoker);
+
+        if (handler.isIgnoreCancelled()) {
+            // Checked before the (timed) invocation, with an accessor resolved once per event class
+            Consumer<Object> filtered = CancellationAccessor.skipCancelled(eventType, invoker);
+            if (filtered != null) {
+                invoker = filtered;
             } else {
-                registerSync(registry, priority, (Class<? extends IBaseEvent>) eventType, listener, method);
+                plugin.getLogger().at(java.util.logging.Level.WARNING).log("Method " + handler.getMethodName()
+                        + " uses ignoreCancelled = true, but " + eventType.getName() + " cannot be cancelled.");
+            }
+        }
+
+        if (handler.getBlocks().length > 0 || handler.getItems().length > 0) {
+            if ((handler.getBlocks().length == 0 || FilteredEventRouter.supportsBlocks(eventType))
+                    && (handler.getItems().length == 0 || FilteredEventRouter.supportsItems(eventType))) {
+                // One bus registration per plugin, event type and priority, indexed by ID
+                FilteredEventRouter router = FilteredEventRouter.forHandler(plugin, eventType, priority,
+                        created -> {
+                            ListenerRegistry.retain(plugin, eventType);
+                            registerSync(registry, priority, (Class<? extends IBaseEvent>) eventType, created);
+                        });
+                router.add(handler.getBlocks(), handler.getItems(), invoker);
+                return;
+            }
+            plugin.getLogger().at(java.util.logging.Level.WARNING).log("Method " + handler.getMethodName()
+                    + " filters on blocks or items, which is not supported for " + eventType.getName()
+                    + ". It will receive every event.");
+        }
+
+        if (handler.isCoalesce()) {
+            if (eventType == PlayerMouseMotionEvent.class) {
+                MouseMotionCoalescer.subscribe(plugin, invoker);
+                return;
             }
+            plugin.getLogger().at(java.util.logging.Level.WARNING).log("Method " + handler.getMethodName()
+                    + " uses coalesce = true, which is not supported for " + eventType.getName()
+                    + ". It will receive every event.");
+        }
+
+        ListenerRegistry.retain(plugin, eventType);
+
+        if (IAsyncEvent.class.isAssignableFrom(eventType)) {
+            registerAsync(registry, priority, (Class<? extends IAsyncEvent>) eventType, invoker);
+        } else {
+            registerSync(registry, priority, (Class<? extends IBaseEvent>) eventType, invoker);
         }
     }
 
     @SuppressWarnings("unchecked")
     private static void registerSync(EventRegistry registry, EventPriority priority,
-            Class<? extends IBaseEvent> eventClass, SimpleListener listener, Method method) {
+            Class<? extends IBaseEvent> eventClass, Consumer<Object> invoker) {
         Consumer consumer = event -> {
             try {
-                method.invoke(listener, event);
+                invoker.accept(event);
             } catch (Exception e) {
                 e.printStackTrace();
             }
@@ -88,10 +286,10 @@ public class EventScanner {
 
     @SuppressWarnings("unchecked")
     private static void registerAsync(EventRegistry registry, EventPriority priority,
-            Class<? extends IAsyncEvent> eventClass, SimpleListener listener, Method method) {
+            Class<? extends IAsyncEvent> eventClass, Consumer<Object> invoker) {
         Function function = future -> ((CompletableFuture) future).thenApply(event -> {
             try {
-                method.invoke(listener, event);
+                invoker.accept(event);
             } catch (Exception e) {
                 e.printStackTrace();
             }
@@ -0,0 +1,244 @@
+package fr.hytale.loader.event;
+
+import com.hypixel.hytale.event.EventPriority;
+import com.hypixel.hytale.server.core.inventory.ItemStack;
+import fr.hytale.loader.event.types.ecs.BreakBlockEvent;
+import fr.hytale.loader.event.types.ecs.DamageBlockEvent;
+import fr.hytale.loader.event.types.ecs.DropItemEvent;
+import fr.hytale.loader.event.types.ecs.PlaceBlockEvent;
+import fr.hytale.loader.event.types.ecs.UseBlockEvent;
+import fr.hytale.loader.plugin.SimplePlugin;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Routes block and item events to handlers filtered by block or item ID.
+ * <p>
+ * Handlers declaring {@link EventHandler#blocks()} or
+ * {@link EventHandler#items()} are not registered on the event bus one by
+ * one. Instead, {@link EventScanner} registers a single router per plugin,
+ * event type and priority, which indexes its handlers by ID. When an event is
+ * dispatched, the router reads the block and item IDs of the event once and
+ * only calls the handlers registered for them, with a hash lookup instead of
+ * running every handler.
+ * </p>
+ *
+ * <h2>Supported Events:</h2>
+ * <ul>
+ * <li>{@link BreakBlockEvent}, {@link DamageBlockEvent} - block type and item
+ * in hand</li>
+ * <li>{@link UseBlockEvent} - block type</li>
+ * <li>{@link PlaceBlockEvent} - item in hand, which is also the placed
+ * block</li>
+ * <li>{@link DropItemEvent} - dropped item</li>
+ * </ul>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ * @see EventHandler#blocks()
+ * @see EventHandler#items()
+ */
+public final class FilteredEventRouter implements Consumer<Object> {
+
+    private static final Map<Class<?>, Function<Object, String>> BLOCK_KEYS = new HashMap<>();
+    private static final Map<Class<?>, Function<Object, String>> ITEM_KEYS = new HashMap<>();
+    private static final Map<SimplePlugin, List<FilteredEventRouter>> ROUTERS = new HashMap<>();
+
+    static {
+        BLOCK_KEYS.put(BreakBlockEvent.class,
+                event -> ((BreakBlockEvent) event).getBlockType() != null
+                        ? ((BreakBlockEvent) event).getBlockType().getId()
+                        : null);
+        BLOCK_KEYS.put(DamageBlockEvent.class,
+                event -> ((DamageBlockEvent) event).getBlockType() != null
+                        ? ((DamageBlockEvent) event).getBlockType().getId()
+                        : null);
+        BLOCK_KEYS.put(UseBlockEvent.class,
+                event -> ((UseBlockEvent) event).getBlockType() != null
+                        ? ((UseBlockEvent) event).getBlockType().getId()
+                        : null);
+        BLOCK_KEYS.put(PlaceBlockEvent.class, event -> itemId(((PlaceBlockEvent) event).getItemInHand()));
+
+        ITEM_KEYS.put(BreakBlockEvent.class, event -> itemId(((BreakBlockEvent) event).getItemInHand()));
+        ITEM_KEYS.put(DamageBlockEvent.class, event -> itemId(((DamageBlockEvent) event).getItemInHand()));
+        ITEM_KEYS.put(PlaceBlockEvent.class, event -> itemId(((PlaceBlockEvent) event).getItemInHand()));
+        ITEM_KEYS.put(DropItemEvent.class, event -> itemId(((DropItemEvent) event).getItemStack()));
+    }
+
+    private final SimplePlugin plugin;
+    private final Class<?> eventType;
+    private final EventPriority priority;
+    private final Function<Object, String> blockKey;
+    private final Function<Object, String> itemKey;
+
+    // Rebuilt on registration, read without locking on dispatch
+    private volatile Map<String, Route[]> byBlock = Map.of();
+    private volatile Map<String, Route[]> byItem = Map.of();
+
+    private FilteredEventRouter(SimplePlugin plugin, Class<?> eventType, EventPriority priority) {
+        this.plugin = plugin;
+        this.eventType = eventType;
+        this.priority = priority;
+        this.blockKey = BLOCK_KEYS.get(eventType);
+        this.itemKey = ITEM_KEYS.get(eventType);
+    }
+
+    /**
+     * Checks if an event type can be filtered by block ID.
+     *
+     * @param eventType the event class
+     * @return true if {@link EventHandler#blocks()} is supported
+     */
+    public static boolean supportsBlocks(Class<?> eventType) {
+        return BLOCK_KEYS.containsKey(eventType);
+    }
+
+    /**
+     * Checks if an event type can be filtered by item ID.
+     *
+     * @param eventType the event class
+     * @return true if {@link EventHandler#items()} is supported
+     */
+    public static boolean supportsItems(Class<?> eventType) {
+        return ITEM_KEYS.containsKey(eventType);
+    }
+
+    /**
+     * Gets the router of a plugin for an event type and priority, creating it
+     * if needed.
+     *
+     * @param plugin    the plugin owning the handlers
+     * @param eventType the event class
+     * @param priority  the handler priority
+     * @param onCreate  called with a new router so it can be registered on the
+     *                  event bus
+     * @return the router
+     */
+    static FilteredEventRouter forHandler(SimplePlugin plugin, Class<?> eventType, EventPriority priority,
+            Consumer<FilteredEventRouter> onCreate) {
+        synchronized (ROUTERS) {
+            List<FilteredEventRouter> routers = ROUTERS.computeIfAbsent(plugin, k -> new ArrayList<>());
+            for (FilteredEventRouter router : routers) {
+                if (router.eventType == eventType && router.priority == priority) {
+                    return router;
+                }
+            }
+            FilteredEventRouter router = new FilteredEventRouter(plugin, eventType, priority);
+            routers.add(router);
+            onCreate.accept(router);
+            return router;
+        }
+    }
+
+    /**
+     * Removes the routers of a plugin.
+     *
+     * @param plugin the plugin being shut down
+     */
+    public static void releaseAll(SimplePlugin plugin) {
+        synchronized (ROUTERS) {
+            ROUTERS.remove(plugin);
+        }
+    }
+
+    /**
+     * Adds a filtered handler.
+     * <p>
+     * If both block and item IDs are given, the handler is called only for
+     * events matching one of each.
+     * </p>
+     *
+     * @param blocks  the block IDs the handler listens to, may be empty
+     * @param items   the item IDs the handler listens to, may be empty
+     * @param invoker the handler invoker
+     */
+    synchronized void add(String[] blocks, String[] items, Consumer<Object> invoker) {
+        Route route = new Route(items.length > 0 ? new HashSet<>(Arrays.asList(items)) : null, invoker);
+        if (blocks.length > 0) {
+            byBlock = with(byBlock, blocks, route);
+        } else {
+            byItem = with(byItem, items, route);
+        }
+    }
+
+    @Override
+    public void accept(Object event) {
+        Map<String, Route[]> blockRoutes = byBlock;
+        Map<String, Route[]> itemRoutes = byItem;
+        String itemId = itemKey != null ? itemKey.apply(event) : null;
+
+        if (!blockRoutes.isEmpty()) {
+            String blockId = blockKey.apply(event);
+            Route[] routes = blockId != null ? blockRoutes.get(blockId) : null;
+            if (routes != null) {
+                for (Route route : routes) {
+                    if (route.items == null || (itemId != null && route.items.contains(itemId))) {
+                        invoke(route, event);
+                    }
+                }
+            }
+        }
+
+        if (!itemRoutes.isEmpty() && itemId != null) {
+            Route[] routes = itemRoutes.get(itemId);
+            if (routes != null) {
+                for (Route route : routes) {
+                    invoke(route, event);
+                }
+            }
+        }
+    }
+
+    private void invoke(Route route, Object event) {
+        try {
+            route.invoker.accept(event);
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static Map<String, Route[]> with(Map<String, Route[]> current, String[] keys, Route route) {
+        Map<String, Route[]> updated = new HashMap<>(current);
+        for (String key : new HashSet<>(Arrays.asList(keys))) {
+            Route[] routes = updated.get(key);
+            if (routes == null) {
+                routes = new Route[] { route };
+            } else {
+                routes = Arrays.copyOf(routes, routes.length + 1);
+                routes[routes.length - 1] = route;
+            }
+            updated.put(key, routes);
+        }
+        return updated;
+    }
+
+    private static String itemId(ItemStack itemStack) {
+        return itemStack != null ? itemStack.getItemId() : null;
+    }
+
+    @Override
+    public String toString() {
+        return "FilteredEventRouter{plugin=" + plugin.getName() + ", event=" + eventType.getSimpleName()
+                + ", priority=" + priority + "}";
+    }
+
+    private static final class Route {
+        private final Set<String> items;
+        private final Consumer<Object> invoker;
+
+        private Route(Set<String> items, Consumer<Object> invoker) {
+            this.items = items;
+            this.invoker = Objects.requireNonNull(invoker);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package fr.hytale.loader.event;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+
+/**
+ * Compile-time index of the {@link EventHandler} methods declared by a
+ * listener class.
+ * <p>
+ * Implementations are generated by
+ * {@link fr.hytale.loader.processor.RegistrationIndexProcessor} next to each
+ * listener class, under the listener's binary name followed by
+ * {@link #SUFFIX}. When an index is present, {@link EventScanner} uses it
+ * instead of scanning the class with reflection.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ * @see IndexedHandler
+ */
+public interface HandlerIndex {
+
+    /**
+     * Suffix appended to the listener's binary class name to locate its index.
+     */
+    String SUFFIX = "$$HLEventIndex";
+
+    /**
+     * Gets the handlers declared by the indexed class, bound to a listener
+     * instance.
+     *
+     * @param listener the listener instance the handlers are bound to
+     * @return the indexed handlers, in declaration order
+     */
+    List<IndexedHandler> getHandlers(Object listener);
+
+    /**
+     * Gets the {@link BatchEventHandler} methods declared by the indexed
+     * class, bound to a listener instance.
+     *
+     * @param listener the listener instance the handlers are bound to
+     * @return the indexed batch handlers, in declaration order
+     */
+    default List<IndexedBatchHandler> getBatchHandlers(Object listener) {
+        return List.of();
+    }
+
+    /**
+     * Gets a lookup created in the indexed class's package and class loader.
+     * <p>
+     * Used to generate invokers for the handlers the index cannot call
+     * directly (private methods), and for the other listeners of the same
+     * plugin, with full privilege in the mod's module.
+     * </p>
+     *
+     * @return the lookup, or null if the index was generated without one
+     */
+    default MethodHandles.Lookup lookup() {
+        return null;
+    }
+}
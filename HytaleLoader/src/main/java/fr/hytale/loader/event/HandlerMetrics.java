@@ -0,0 +1,299 @@
+package fr.hytale.loader.event;
+
+import fr.hytale.loader.plugin.SimplePlugin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Records how long each {@link EventHandler} method takes.
+ * <p>
+ * Every handler registered by {@link EventScanner} goes through a recorder.
+ * While metrics are enabled, each call is timed and added to a lock-free
+ * latency histogram (power-of-two buckets), from which
+ * {@link #getStats()} derives p50, p99 and max values. When a call exceeds
+ * the {@link #setSlowThreshold(long) slow threshold}, the plugin, class and
+ * method are logged, at most once per handler every
+ * {@link #setSlowLogInterval(long) log interval}.
+ * </p>
+ * <p>
+ * Metrics are disabled by default and cost a single volatile read per call in
+ * that state. They can be enabled at runtime with {@link #setEnabled(boolean)}
+ * or at startup with the {@code -Dhytaleloader.metrics=true} system property.
+ * </p>
+ *
+ * <h2>Usage Example:</h2>
+ *
+ * <pre>{@code
+ * HandlerMetrics.setEnabled(true);
+ * for (HandlerStats stats : HandlerMetrics.getStats()) {
+ *     getLogger().at(Level.INFO).log(stats.toString());
+ * }
+ * }</pre>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ * @see HandlerStats
+ */
+public final class HandlerMetrics {
+
+    private static final int BUCKETS = 64;
+
+    private static final List<Recorder> RECORDERS = new CopyOnWriteArrayList<>();
+
+    private static volatile boolean enabled = Boolean.getBoolean("hytaleloader.metrics");
+    private static volatile long slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(5);
+    private static volatile long slowLogIntervalNanos = TimeUnit.SECONDS.toNanos(30);
+
+    private HandlerMetrics() {
+        // Utility class
+    }
+
+    /**
+     * Enables or disables handler timing.
+     *
+     * @param value true to record handler latencies
+     */
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * Checks if handler timing is enabled.
+     *
+     * @return true if latencies are recorded
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets the duration above which a handler call is reported as slow.
+     *
+     * @param micros the threshold in microseconds, or 0 to disable slow
+     *               handler logging
+     */
+    public static void setSlowThreshold(long micros) {
+        if (micros < 0) {
+            throw new IllegalArgumentException("Slow threshold cannot be negative");
+        }
+        slowThresholdNanos = TimeUnit.MICROSECONDS.toNanos(micros);
+    }
+
+    /**
+     * Gets the duration above which a handler call is reported as slow.
+     *
+     * @return the threshold in microseconds, 0 if slow handler logging is off
+     */
+    public static long getSlowThreshold() {
+        return TimeUnit.NANOSECONDS.toMicros(slowThresholdNanos);
+    }
+
+    /**
+     * Sets the minimum time between two slow handler warnings for the same
+     * handler.
+     *
+     * @param millis the interval in milliseconds
+     */
+    public static void setSlowLogInterval(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Log interval cannot be negative");
+        }
+        slowLogIntervalNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * Wraps a handler invoker with a recorder.
+     *
+     * @param plugin     the plugin owning the handler
+     * @param ownerClass the class declaring the handler
+     * @param handler    the handler description
+     * @param invoker    the handler invoker
+     * @return an invoker recording every call while metrics are enabled
+     */
+    public static Consumer<Object> instrument(SimplePlugin plugin, Class<?> ownerClass, IndexedHandler handler,
+            Consumer<Object> invoker) {
+        Recorder recorder = new Recorder(plugin, ownerClass.getName(), handler.getMethodName(),
+                handler.getEventType(), invoker);
+        RECORDERS.add(recorder);
+        return recorder;
+    }
+
+    /**
+     * Removes the recorders of every handler of a plugin.
+     *
+     * @param plugin the plugin being shut down
+     */
+    public static void releaseAll(SimplePlugin plugin) {
+        RECORDERS.removeIf(recorder -> recorder.plugin == plugin);
+    }
+
+    /**
+     * Gets a snapshot of the statistics of every registered handler, slowest
+     * (by p99) first.
+     *
+     * @return an unmodifiable list of handler statistics
+     */
+    public static List<HandlerStats> getStats() {
+        List<HandlerStats> stats = new ArrayList<>();
+        for (Recorder recorder : RECORDERS) {
+            stats.add(recorder.snapshot());
+        }
+        stats.sort(Comparator.comparingLong(HandlerStats::getP99Nanos).reversed());
+        return Collections.unmodifiableList(stats);
+    }
+
+    /**
+     * Gets a snapshot of the statistics of the handlers of a plugin.
+     *
+     * @param plugin the plugin
+     * @return an unmodifiable list of handler statistics
+     */
+    public static List<HandlerStats> getStats(SimplePlugin plugin) {
+        List<HandlerStats> stats = new ArrayList<>();
+        for (Recorder recorder : RECORDERS) {
+            if (recorder.plugin == plugin) {
+                stats.add(recorder.snapshot());
+            }
+        }
+        stats.sort(Comparator.comparingLong(HandlerStats::getP99Nanos).reversed());
+        return Collections.unmodifiableList(stats);
+    }
+
+    /**
+     * Clears the recorded statistics of every handler.
+     */
+    public static void reset() {
+        for (Recorder recorder : RECORDERS) {
+            recorder.reset();
+        }
+    }
+
+    private static int bucketOf(long nanos) {
+        // Bucket i holds durations in [2^(i-1), 2^i)
+        return nanos <= 0 ? 0 : Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    private static long percentile(long[] buckets, long total, double fraction, long max) {
+        if (total == 0) {
+            return 0L;
+        }
+        long rank = (long) Math.ceil(total * fraction);
+        long seen = 0L;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                // Upper bound of the bucket, never above the observed max
+                long upper = i == 0 ? 0L : (i >= 63 ? Long.MAX_VALUE : (1L << i) - 1);
+                return Math.min(upper, max);
+            }
+        }
+        return max;
+    }
+
+    private static final class Recorder implements Consumer<Object> {
+        private final SimplePlugin plugin;
+        private final String className;
+        private final String methodName;
+        private final Class<?> eventType;
+        private final Consumer<Object> invoker;
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final AtomicLong lastSlowLog = new AtomicLong(Long.MIN_VALUE);
+        private final LongAdder suppressedSlow = new LongAdder();
+
+        private Recorder(SimplePlugin plugin, String className, String methodName, Class<?> eventType,
+                Consumer<Object> invoker) {
+            this.plugin = plugin;
+            this.className = className;
+            this.methodName = methodName;
+            this.eventType = eventType;
+            this.invoker = invoker;
+        }
+
+        @Override
+        public void accept(Object event) {
+            if (!enabled) {
+                invoker.accept(event);
+                return;
+            }
+
+            long start = System.nanoTime();
+            try {
+                invoker.accept(event);
+            } finally {
+                record(System.nanoTime() - start);
+            }
+        }
+
+        private void record(long nanos) {
+            calls.increment();
+            totalNanos.add(nanos);
+            buckets.incrementAndGet(bucketOf(nanos));
+
+            long max = maxNanos.get();
+            while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+                max = maxNanos.get();
+            }
+
+            long threshold = slowThresholdNanos;
+            if (threshold > 0 && nanos > threshold) {
+                reportSlow(nanos);
+            }
+        }
+
+        private void reportSlow(long nanos) {
+            long now = System.nanoTime();
+            long last = lastSlowLog.get();
+            if (last != Long.MIN_VALUE && now - last < slowLogIntervalNanos) {
+                suppressedSlow.increment();
+                return;
+            }
+            if (!lastSlowLog.compareAndSet(last, now)) {
+                suppressedSlow.increment();
+                return;
+            }
+
+            long suppressed = suppressedSlow.sumThenReset();
+            plugin.getLogger().at(Level.WARNING).log("Slow event handler in plugin " + plugin.getName() + ": "
+                    + className + "#" + methodName + "(" + eventType.getSimpleName() + ") took "
+                    + String.format("%.2f", nanos / 1_000_000.0) + " ms"
+                    + (suppressed > 0 ? " (" + suppressed + " more slow calls since last warning)" : ""));
+        }
+
+        private HandlerStats snapshot() {
+            long[] counts = new long[BUCKETS];
+            long total = 0L;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            long max = maxNanos.get();
+            return new HandlerStats(plugin.getName(), className, methodName, eventType, calls.sum(),
+                    totalNanos.sum(), percentile(counts, total, 0.50, max), percentile(counts, total, 0.99, max),
+                    max);
+        }
+
+        private void reset() {
+            calls.reset();
+            totalNanos.reset();
+            maxNanos.set(0L);
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets.set(i, 0L);
+            }
+        }
+    }
+}
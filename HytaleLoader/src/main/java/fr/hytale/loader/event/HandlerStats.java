@@ -0,0 +1,162 @@
+package fr.hytale.loader.event;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snapshot of the latency statistics of a single {@link EventHandler} method.
+ * <p>
+ * Percentiles come from a power-of-two histogram, so they are upper bounds
+ * accurate to within a factor of two.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ * @see HandlerMetrics
+ */
+public final class HandlerStats {
+
+    private final String pluginName;
+    private final String className;
+    private final String methodName;
+    private final Class<?> eventType;
+    private final long calls;
+    private final long totalNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+
+    /**
+     * Constructs a new HandlerStats snapshot.
+     *
+     * @param pluginName the name of the plugin owning the handler
+     * @param className  the class declaring the handler
+     * @param methodName the handler method name
+     * @param eventType  the event type the handler listens to
+     * @param calls      the number of recorded calls
+     * @param totalNanos the total time spent in the handler
+     * @param p50Nanos   the median call duration
+     * @param p99Nanos   the 99th percentile call duration
+     * @param maxNanos   the longest call duration
+     */
+    public HandlerStats(String pluginName, String className, String methodName, Class<?> eventType, long calls,
+            long totalNanos, long p50Nanos, long p99Nanos, long maxNanos) {
+        this.pluginName = pluginName;
+        this.className = className;
+        this.methodName = methodName;
+        this.eventType = eventType;
+        this.calls = calls;
+        this.totalNanos = totalNanos;
+        this.p50Nanos = p50Nanos;
+        this.p99Nanos = p99Nanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Gets the name of the plugin owning the handler.
+     *
+     * @return the plugin name
+     */
+    public String getPluginName() {
+        return pluginName;
+    }
+
+    /**
+     * Gets the fully qualified name of the class declaring the handler.
+     *
+     * @return the class name
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * Gets the handler method name.
+     *
+     * @return the method name
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Gets the event type the handler listens to.
+     *
+     * @return the event class
+     */
+    public Class<?> getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Gets the number of recorded calls.
+     *
+     * @return the call count
+     */
+    public long getCalls() {
+        return calls;
+    }
+
+    /**
+     * Gets the total time spent in the handler.
+     *
+     * @return the total time in nanoseconds
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * Gets the average call duration.
+     *
+     * @return the mean duration in nanoseconds
+     */
+    public long getMeanNanos() {
+        return calls > 0 ? totalNanos / calls : 0L;
+    }
+
+    /**
+     * Gets the median call duration.
+     *
+     * @return the p50 duration in nanoseconds
+     */
+    public long getP50Nanos() {
+        return p50Nanos;
+    }
+
+    /**
+     * Gets the 99th percentile call duration.
+     *
+     * @return the p99 duration in nanoseconds
+     */
+    public long getP99Nanos() {
+        return p99Nanos;
+    }
+
+    /**
+     * Gets the longest call duration.
+     *
+     * @return the max duration in nanoseconds
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    @Override
+    public String toString() {
+        String simpleName = className.substring(className.lastIndexOf('.') + 1);
+        return pluginName + " " + simpleName + "#" + methodName + "(" + eventType.getSimpleName() + "): "
+                + calls + " calls, p50 " + format(p50Nanos) + ", p99 " + format(p99Nanos) + ", max "
+                + format(maxNanos);
+    }
+
+    private static String format(long nanos) {
+        if (nanos < TimeUnit.MICROSECONDS.toNanos(1)) {
+            return nanos + "ns";
+        }
+        if (nanos < TimeUnit.MILLISECONDS.toNanos(1)) {
+            return String.format("%.1fus", nanos / 1_000.0);
+        }
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+}
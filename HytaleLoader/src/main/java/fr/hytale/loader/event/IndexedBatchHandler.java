@@ -0,0 +1,71 @@
+package fr.hytale.loader.event;
+
+import java.util.function.Consumer;
+
+/**
+ * A single {@link BatchEventHandler} method recorded in a {@link HandlerIndex}.
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ * @see HandlerIndex#getBatchHandlers(Object)
+ */
+public final class IndexedBatchHandler {
+
+    private final String methodName;
+    private final Class<?> recordType;
+    private final int maxSize;
+    private final Consumer<Object> invoker;
+
+    /**
+     * Constructs a new IndexedBatchHandler.
+     *
+     * @param methodName the name of the handler method
+     * @param recordType the record type of the batches
+     * @param maxSize    the maximum batch size, or 0 for no limit
+     * @param invoker    the generated invoker, or null if the method is not
+     *                   accessible from generated code (e.g. private)
+     */
+    public IndexedBatchHandler(String methodName, Class<?> recordType, int maxSize, Consumer<Object> invoker) {
+        this.methodName = methodName;
+        this.recordType = recordType;
+        this.maxSize = maxSize;
+        this.invoker = invoker;
+    }
+
+    /**
+     * Gets the name of the handler method.
+     *
+     * @return the method name
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Gets the record type of the batches.
+     *
+     * @return the record class
+     */
+    public Class<?> getRecordType() {
+        return recordType;
+    }
+
+    /**
+     * Gets the maximum batch size.
+     *
+     * @return the maximum size, or 0 for one batch per tick
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the generated invoker.
+     *
+     * @return the invoker, or null if it must be resolved at runtime
+     */
+    public Consumer<Object> getInvoker() {
+        return invoker;
+    }
+}
@@ -0,0 +1,143 @@
+package fr.hytale.loader.event;
+
+import com.hypixel.hytale.event.EventPriority;
+
+import java.util.function.Consumer;
+
+/**
+ * A single {@link EventHandler} method recorded in a {@link HandlerIndex}.
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ * @see HandlerIndex
+ */
+public final class IndexedHandler {
+
+    private final String methodName;
+    private final Class<?> eventType;
+    private final EventPriority priority;
+    private final Consumer<Object> invoker;
+    private final boolean coalesce;
+    private final boolean ignoreCancelled;
+    private final String[] blocks;
+    private final String[] items;
+
+    /**
+     * Constructs a new IndexedHandler.
+     *
+     * @param methodName the name of the handler method
+     * @param eventType  the event type the handler listens to
+     * @param priority   the handler priority
+     * @param invoker    the generated invoker, or null if the method is not
+     *                   accessible from generated code (e.g. private)
+     */
+    public IndexedHandler(String methodName, Class<?> eventType, EventPriority priority, Consumer<Object> invoker) {
+        this(methodName, eventType, priority, invoker, false, false, new String[0], new String[0]);
+    }
+
+    /**
+     * Constructs a new IndexedHandler.
+     *
+     * @param methodName      the name of the handler method
+     * @param eventType       the event type the handler listens to
+     * @param priority        the handler priority
+     * @param invoker         the generated invoker, or null if the method is
+     *                        not accessible from generated code (e.g. private)
+     * @param coalesce        whether the handler only needs the latest event
+     * @param ignoreCancelled whether the handler skips cancelled events
+     * @param blocks          the block IDs the handler is filtered on
+     * @param items           the item IDs the handler is filtered on
+     * @see EventHandler#coalesce()
+     * @see EventHandler#ignoreCancelled()
+     * @see EventHandler#blocks()
+     * @see EventHandler#items()
+     */
+    public IndexedHandler(String methodName, Class<?> eventType, EventPriority priority, Consumer<Object> invoker,
+            boolean coalesce, boolean ignoreCancelled, String[] blocks, String[] items) {
+        this.methodName = methodName;
+        this.eventType = eventType;
+        this.priority = priority;
+        this.invoker = invoker;
+        this.coalesce = coalesce;
+        this.ignoreCancelled = ignoreCancelled;
+        this.blocks = blocks;
+        this.items = items;
+    }
+
+    /**
+     * Gets the name of the handler method.
+     *
+     * @return the method name
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * Gets the event type the handler listens to.
+     *
+     * @return the event class
+     */
+    public Class<?> getEventType() {
+        return eventType;
+    }
+
+    /**
+     * Gets the handler priority.
+     *
+     * @return the event priority
+     */
+    public EventPriority getPriority() {
+        return priority;
+    }
+
+    /**
+     * Gets the generated invoker.
+     *
+     * @return the invoker, or null if it must be resolved at runtime
+     */
+    public Consumer<Object> getInvoker() {
+        return invoker;
+    }
+
+    /**
+     * Checks whether the handler only needs the latest event.
+     *
+     * @return true if the handler is coalesced
+     * @see EventHandler#coalesce()
+     */
+    public boolean isCoalesce() {
+        return coalesce;
+    }
+
+    /**
+     * Checks whether the handler skips cancelled events.
+     *
+     * @return true if cancelled events are ignored
+     * @see EventHandler#ignoreCancelled()
+     */
+    public boolean isIgnoreCancelled() {
+        return ignoreCancelled;
+    }
+
+    /**
+     * Gets the block IDs the handler is filtered on.
+     *
+     * @return the block IDs, empty if the handler listens to all blocks
+     * @see EventHandler#blocks()
+     */
+    public String[] getBlocks() {
+        return blocks;
+    }
+
+    /**
+     * Gets the item IDs the handler is filtered on.
+     *
+     * @return the item IDs, empty if the handler listens to all items
+     * @see EventHandler#items()
+     */
+    public String[] getItems() {
+        return items;
+    }
+}
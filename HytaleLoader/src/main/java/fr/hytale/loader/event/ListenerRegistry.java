@@ -0,0 +1,150 @@
+package fr.hytale.loader.event;
+
+import fr.hytale.loader.plugin.SimplePlugin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracks how many handlers are listening to each HytaleLoader event type.
+ * <p>
+ * {@link EventScanner} records every handler it registers here, and the
+ * internal dispatchers check {@link #shouldDispatch(Class)} before looking up
+ * components and creating wrapper events. When nobody listens to an event
+ * type, the whole dispatch is skipped in constant time.
+ * </p>
+ * <p>
+ * Handlers registered directly on the native event registry are not seen by
+ * this class. Use {@link #retain(SimplePlugin, Class)} to declare them.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ * @see EventScanner
+ */
+public final class ListenerRegistry {
+
+    private static final Map<Class<?>, AtomicInteger> SUBSCRIBERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, LongAdder> SKIPPED = new ConcurrentHashMap<>();
+    private static final Map<SimplePlugin, List<Class<?>>> OWNERS = new HashMap<>();
+
+    private ListenerRegistry() {
+        // Utility class
+    }
+
+    /**
+     * Records a new handler for an event type.
+     *
+     * @param plugin    the plugin owning the handler
+     * @param eventType the event class the handler listens to
+     */
+    public static void retain(SimplePlugin plugin, Class<?> eventType) {
+        synchronized (OWNERS) {
+            OWNERS.computeIfAbsent(plugin, k -> new ArrayList<>()).add(eventType);
+        }
+        SUBSCRIBERS.computeIfAbsent(eventType, k -> new AtomicInteger()).incrementAndGet();
+    }
+
+    /**
+     * Removes every handler recorded for a plugin.
+     * <p>
+     * Called automatically when a {@link SimplePlugin} shuts down, since the
+     * server unregisters all of its event handlers at that point.
+     * </p>
+     *
+     * @param plugin the plugin being shut down
+     */
+    public static void releaseAll(SimplePlugin plugin) {
+        List<Class<?>> eventTypes;
+        synchronized (OWNERS) {
+            eventTypes = OWNERS.remove(plugin);
+        }
+        if (eventTypes == null) {
+            return;
+        }
+        for (Class<?> eventType : eventTypes) {
+            AtomicInteger count = SUBSCRIBERS.get(eventType);
+            if (count != null) {
+                count.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of live handlers for an event type.
+     *
+     * @param eventType the event class
+     * @return the number of registered handlers
+     */
+    public static int getSubscriberCount(Class<?> eventType) {
+        AtomicInteger count = SUBSCRIBERS.get(eventType);
+        return count != null ? count.get() : 0;
+    }
+
+    /**
+     * Checks if at least one handler listens to an event type.
+     *
+     * @param eventType the event class
+     * @return true if the event has listeners
+     */
+    public static boolean hasListeners(Class<?> eventType) {
+        return getSubscriberCount(eventType) > 0;
+    }
+
+    /**
+     * Checks if an event should be dispatched, counting it as skipped if not.
+     *
+     * @param eventType the event class about to be dispatched
+     * @return true if the event has listeners and should be dispatched
+     */
+    public static boolean shouldDispatch(Class<?> eventType) {
+        if (hasListeners(eventType)) {
+            return true;
+        }
+        SKIPPED.computeIfAbsent(eventType, k -> new LongAdder()).increment();
+        return false;
+    }
+
+    /**
+     * Gets how many dispatches of an event type were skipped because nobody
+     * was listening.
+     *
+     * @param eventType the event class
+     * @return the number of skipped dispatches
+     */
+    public static long getSkippedDispatches(Class<?> eventType) {
+        LongAdder skipped = SKIPPED.get(eventType);
+        return skipped != null ? skipped.sum() : 0L;
+    }
+
+    /**
+     * Gets how many dispatches were skipped across all event types.
+     *
+     * @return the total number of skipped dispatches
+     */
+    public static long getSkippedDispatches() {
+        long total = 0L;
+        for (LongAdder skipped : SKIPPED.values()) {
+            total += skipped.sum();
+        }
+        return total;
+    }
+
+    /**
+     * Gets the skipped dispatch counters of every event type.
+     *
+     * @return an unmodifiable snapshot of skipped dispatches per event class
+     */
+    public static Map<Class<?>, Long> getSkippedDispatchCounts() {
+        Map<Class<?>, Long> counts = new HashMap<>();
+        SKIPPED.forEach((eventType, skipped) -> counts.put(eventType, skipped.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+}
@@ -0,0 +1,211 @@
+package fr.hytale.loader.event;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import fr.hytale.loader.api.Player;
+import fr.hytale.loader.event.types.player.PlayerMouseMotionEvent;
+import fr.hytale.loader.internal.WorldTasks;
+import fr.hytale.loader.plugin.SimplePlugin;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Delivers {@link PlayerMouseMotionEvent} to coalesced handlers.
+ * <p>
+ * Clients can send many mouse motion events per tick. Handlers declared with
+ * {@code @EventHandler(coalesce = true)} do not receive each of them: the
+ * latest event of every player is kept in a slot, and the slot is flushed on
+ * the player's world thread once per tick, or at most once per
+ * {@link #setFlushInterval(long) flush interval}. Older events of the same
+ * burst are dropped. A flush arriving before the interval elapsed is queued
+ * again once it did, from a timer thread, so waiting costs nothing on the
+ * world thread.
+ * </p>
+ * <p>
+ * Handlers without {@code coalesce} still receive every event through the
+ * event bus.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ * @see EventHandler#coalesce()
+ */
+public final class MouseMotionCoalescer {
+
+    private static final List<Subscriber> SUBSCRIBERS = new CopyOnWriteArrayList<>();
+    private static final Map<PlayerRef, Slot> SLOTS = new ConcurrentHashMap<>();
+
+    private static volatile long flushIntervalNanos = 0L;
+
+    private MouseMotionCoalescer() {
+        // Utility class
+    }
+
+    /**
+     * Sets the minimum time between two deliveries to the same player.
+     * <p>
+     * With the default of {@code 0}, the latest event is delivered once per
+     * world tick.
+     * </p>
+     *
+     * @param millis the flush interval in milliseconds, or 0 for once per tick
+     */
+    public static void setFlushInterval(long millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("Flush interval cannot be negative");
+        }
+        flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * Gets the minimum time between two deliveries to the same player.
+     *
+     * @return the flush interval in milliseconds, 0 meaning once per tick
+     */
+    public static long getFlushInterval() {
+        return TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos);
+    }
+
+    /**
+     * Registers a coalesced handler.
+     *
+     * @param plugin  the plugin owning the handler
+     * @param invoker the handler invoker
+     */
+    public static void subscribe(SimplePlugin plugin, Consumer<Object> invoker) {
+        SUBSCRIBERS.add(new Subscriber(plugin, invoker));
+    }
+
+    /**
+     * Removes every coalesced handler of a plugin.
+     *
+     * @param plugin the plugin being shut down
+     */
+    public static void releaseAll(SimplePlugin plugin) {
+        SUBSCRIBERS.removeIf(subscriber -> subscriber.plugin == plugin);
+        if (SUBSCRIBERS.isEmpty()) {
+            SLOTS.clear();
+        }
+    }
+
+    /**
+     * Checks if at least one coalesced handler is registered.
+     *
+     * @return true if coalesced handlers exist
+     */
+    public static boolean hasSubscribers() {
+        return !SUBSCRIBERS.isEmpty();
+    }
+
+    /**
+     * Stores the latest mouse motion event of a player, scheduling a flush if
+     * none is pending.
+     *
+     * @param player the player who moved the mouse
+     * @param event  the native mouse motion event
+     */
+    public static void offer(Player player,
+            com.hypixel.hytale.server.core.event.events.player.PlayerMouseMotionEvent event) {
+        PlayerRef playerRef = player.getPlayerRef();
+        if (playerRef == null) {
+            deliver(new PlayerMouseMotionEvent(event, player));
+            return;
+        }
+
+        Slot slot = SLOTS.computeIfAbsent(playerRef, k -> new Slot(player));
+        slot.player = player;
+        slot.latest.set(event);
+
+        if (slot.scheduled.compareAndSet(false, true)) {
+            World world = getWorld(event);
+            if (world == null) {
+                slot.flush(null);
+                return;
+            }
+            world.execute(() -> slot.flush(world));
+        }
+    }
+
+    /**
+     * Drops the pending event of a player.
+     *
+     * @param playerRef the player reference
+     */
+    public static void evict(PlayerRef playerRef) {
+        if (playerRef != null) {
+            SLOTS.remove(playerRef);
+        }
+    }
+
+    private static World getWorld(
+            com.hypixel.hytale.server.core.event.events.player.PlayerMouseMotionEvent event) {
+        try {
+            Ref<EntityStore> ref = event.getPlayerRef();
+            EntityStore entityStore = (EntityStore) ref.getStore().getExternalData();
+            return entityStore != null ? entityStore.getWorld() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static void deliver(PlayerMouseMotionEvent event) {
+        for (Subscriber subscriber : SUBSCRIBERS) {
+            try {
+                subscriber.invoker.accept(event);
+            } catch (Exception e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private static final class Subscriber {
+        private final SimplePlugin plugin;
+        private final Consumer<Object> invoker;
+
+        private Subscriber(SimplePlugin plugin, Consumer<Object> invoker) {
+            this.plugin = plugin;
+            this.invoker = invoker;
+        }
+    }
+
+    private static final class Slot {
+        private final AtomicReference<com.hypixel.hytale.server.core.event.events.player.PlayerMouseMotionEvent> latest = new AtomicReference<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile Player player;
+        private long lastFlush;
+
+        private Slot(Player player) {
+            this.player = player;
+        }
+
+        private void flush(World world) {
+            long now = System.nanoTime();
+            long remaining = flushIntervalNanos - (now - lastFlush);
+            if (world != null && lastFlush != 0L && remaining > 0) {
+                // Too early, queue again once the interval elapsed
+                WorldTasks.runLater(world, remaining, () -> flush(world));
+                return;
+            }
+
+            // Clear the flag first so events offered during delivery schedule a new flush
+            scheduled.set(false);
+            com.hypixel.hytale.server.core.event.events.player.PlayerMouseMotionEvent event = latest.getAndSet(null);
+            if (event == null) {
+                return;
+            }
+
+            lastFlush = now;
+            deliver(new PlayerMouseMotionEvent(event, player));
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package fr.hytale.loader.event.batch;
+
+import java.util.UUID;
+
+/**
+ * Immutable record of a block break, delivered to
+ * {@link fr.hytale.loader.event.BatchEventHandler} methods.
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ * @see fr.hytale.loader.event.types.ecs.BreakBlockEvent
+ */
+public final class BreakBlockRecord {
+
+    private final long timestamp;
+    private final String worldName;
+    private final UUID playerUuid;
+    private final int x;
+    private final int y;
+    private final int z;
+    private final String blockId;
+    private final String itemId;
+    private final boolean cancelled;
+
+    /**
+     * Constructs a new BreakBlockRecord.
+     *
+     * @param timestamp  the time of the event, in milliseconds since the epoch
+     * @param worldName  the name of the world, or null if unknown
+     * @param playerUuid the UUID of the player, or null if not a player
+     * @param x          the block X coordinate
+     * @param y          the block Y coordinate
+     * @param z          the block Z coordinate
+     * @param blockId    the block type ID, or null if unknown
+     * @param itemId     the ID of the item in hand, or null if none
+     * @param cancelled  whether the event was cancelled
+     */
+    public BreakBlockRecord(long timestamp, String worldName, UUID playerUuid, int x, int y, int z, String blockId,
+            String itemId, boolean cancelled) {
+        this.timestamp = timestamp;
+        this.worldName = worldName;
+        this.playerUuid = playerUuid;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.blockId = blockId;
+        this.itemId = itemId;
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * Gets the time of the event.
+     *
+     * @return the timestamp in milliseconds since the epoch
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Gets the name of the world the block was broken in.
+     *
+     * @return the world name, or null if unknown
+     */
+    public String getWorldName() {
+        return worldName;
+    }
+
+    /**
+     * Gets the UUID of the player who broke the block.
+     *
+     * @return the player UUID, or null if the block was not broken by a player
+     */
+    public UUID getPlayerUuid() {
+        return playerUuid;
+    }
+
+    /**
+     * Gets the block X coordinate.
+     *
+     * @return the X coordinate
+     */
+    public int getX() {
+        return x;
+    }
+
+    /**
+     * Gets the block Y coordinate.
+     *
+     * @return the Y coordinate
+     */
+    public int getY() {
+        return y;
+    }
+
+    /**
+     * Gets the block Z coordinate.
+     *
+     * @return the Z coordinate
+     */
+    public int getZ() {
+        return z;
+    }
+
+    /**
+     * Gets the type ID of the broken block.
+     *
+     * @return the block ID, or null if unknown
+     */
+    public String getBlockId() {
+        return blockId;
+    }
+
+    /**
+     * Gets the ID of the item used to break the block.
+     *
+     * @return the item ID, or null if none
+     */
+    public String getItemId() {
+        return itemId;
+    }
+
+    /**
+     * Checks if the event was cancelled.
+     *
+     * @return true if the block was not actually broken
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    @Override
+    public String toString() {
+        return "BreakBlockRecord{world=" + worldName + ", player=" + playerUuid + ", pos=" + x + "," + y + "," + z
+                + ", block=" + blockId + ", item=" + itemId + ", cancelled=" + cancelled + "}";
+    }
+}
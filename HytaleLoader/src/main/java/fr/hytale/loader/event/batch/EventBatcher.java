@@ -0,0 +1,161 @@
+package fr.hytale.loader.event.batch;
+
+import com.hypixel.hytale.server.core.universe.world.World;
+import fr.hytale.loader.plugin.SimplePlugin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Buffers event records for {@link fr.hytale.loader.event.BatchEventHandler}
+ * methods.
+ * <p>
+ * The internal ECS systems append one immutable record per event. Each
+ * batched handler has its own buffer, which is flushed once per tick (through
+ * the world's task queue) or as soon as it reaches the handler's maximum
+ * size. Batches are delivered in order on a single HytaleLoader worker
+ * thread, so handlers never run on the world thread and never concurrently.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ * @see fr.hytale.loader.event.BatchEventHandler
+ */
+public final class EventBatcher {
+
+    private static final Set<Class<?>> RECORD_TYPES = Set.of(BreakBlockRecord.class, DamageBlockRecord.class);
+
+    private static final Map<Class<?>, List<Buffer>> BUFFERS = new ConcurrentHashMap<>();
+
+    private static final ExecutorService WORKER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "HytaleLoader-Batch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private EventBatcher() {
+        // Utility class
+    }
+
+    /**
+     * Checks if batched handlers can receive a record type.
+     *
+     * @param recordType the record class
+     * @return true if the internal systems produce records of this type
+     */
+    public static boolean isSupported(Class<?> recordType) {
+        return RECORD_TYPES.contains(recordType);
+    }
+
+    /**
+     * Registers a batched handler.
+     *
+     * @param plugin     the plugin owning the handler
+     * @param recordType the record type delivered to the handler
+     * @param maxSize    the maximum batch size, or 0 for one batch per tick
+     * @param invoker    the handler invoker, called with a {@code List}
+     */
+    public static void subscribe(SimplePlugin plugin, Class<?> recordType, int maxSize, Consumer<Object> invoker) {
+        BUFFERS.computeIfAbsent(recordType, k -> new CopyOnWriteArrayList<>())
+                .add(new Buffer(plugin, Math.max(0, maxSize), invoker));
+    }
+
+    /**
+     * Removes every batched handler of a plugin. Pending records are dropped.
+     *
+     * @param plugin the plugin being shut down
+     */
+    public static void releaseAll(SimplePlugin plugin) {
+        for (List<Buffer> buffers : BUFFERS.values()) {
+            buffers.removeIf(buffer -> buffer.plugin == plugin);
+        }
+    }
+
+    /**
+     * Checks if a record type has batched handlers.
+     *
+     * @param recordType the record class
+     * @return true if records of this type should be appended
+     */
+    public static boolean isActive(Class<?> recordType) {
+        List<Buffer> buffers = BUFFERS.get(recordType);
+        return buffers != null && !buffers.isEmpty();
+    }
+
+    /**
+     * Appends a record to the buffer of every handler of its type.
+     *
+     * @param world  the world the event happened in, used to flush at the end
+     *               of the tick; if null, the record is delivered immediately
+     * @param record the immutable event record
+     */
+    public static void append(World world, Object record) {
+        List<Buffer> buffers = BUFFERS.get(record.getClass());
+        if (buffers == null) {
+            return;
+        }
+        for (Buffer buffer : buffers) {
+            buffer.append(world, record);
+        }
+    }
+
+    private static final class Buffer {
+        private final SimplePlugin plugin;
+        private final int maxSize;
+        private final Consumer<Object> invoker;
+
+        private List<Object> pending = new ArrayList<>();
+
+        private Buffer(SimplePlugin plugin, int maxSize, Consumer<Object> invoker) {
+            this.plugin = plugin;
+            this.maxSize = maxSize;
+            this.invoker = invoker;
+        }
+
+        private void append(World world, Object record) {
+            boolean first;
+            boolean full;
+            synchronized (this) {
+                pending.add(record);
+                first = pending.size() == 1;
+                full = maxSize > 0 && pending.size() >= maxSize;
+            }
+
+            if (full || world == null) {
+                flush();
+            } else if (first) {
+                // Runs with the world's queued tasks, after this tick's events
+                world.execute(this::flush);
+            }
+        }
+
+        private void flush() {
+            List<Object> batch;
+            synchronized (this) {
+                if (pending.isEmpty()) {
+                    return;
+                }
+                batch = pending;
+                pending = new ArrayList<>();
+            }
+
+            List<Object> records = Collections.unmodifiableList(batch);
+            WORKER.execute(() -> {
+                try {
+                    invoker.accept(records);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            });
+        }
+    }
+}
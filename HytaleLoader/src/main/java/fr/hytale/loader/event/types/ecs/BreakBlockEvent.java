@@ -5,6 +5,7 @@ import com.hypixel.hytale.math.vector.Vector3i;
 import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import fr.hytale.loader.api.Player;
+import fr.hytale.loader.event.Cancellable;
 
 /**
  * Called when a block is broken.
@@ -19,7 +20,7 @@ import fr.hytale.loader.api.Player;
  * @version 1.0.7
  * @since 1.0.1
  */
-public class BreakBlockEvent implements IEvent<Void> {
+public class BreakBlockEvent implements IEvent<Void>, Cancellable {
 
     private final com.hypixel.hytale.server.core.event.events.ecs.BreakBlockEvent originalEvent;
     private final Player player;
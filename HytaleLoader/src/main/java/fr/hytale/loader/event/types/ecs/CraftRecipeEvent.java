@@ -3,6 +3,7 @@ package fr.hytale.loader.event.types.ecs;
 import com.hypixel.hytale.event.IEvent;
 import com.hypixel.hytale.server.core.asset.type.item.config.CraftingRecipe;
 import fr.hytale.loader.api.Player;
+import fr.hytale.loader.event.Cancellable;
 
 /**
  * Called when a crafting recipe is executed (ECS event).
@@ -21,7 +22,7 @@ import fr.hytale.loader.api.Player;
  * @version 1.0.7
  * @since 1.0.1
  */
-public class CraftRecipeEvent implements IEvent<Void> {
+public class CraftRecipeEvent implements IEvent<Void>, Cancellable {
 
     private final com.hypixel.hytale.server.core.event.events.ecs.CraftRecipeEvent.Pre originalEvent;
     private final Player player;
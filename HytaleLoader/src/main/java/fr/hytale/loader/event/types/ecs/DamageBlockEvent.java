@@ -5,6 +5,7 @@ import com.hypixel.hytale.math.vector.Vector3i;
 import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import fr.hytale.loader.api.Player;
+import fr.hytale.loader.event.Cancellable;
 
 /**
  * Called when a block takes damage.
@@ -18,7 +19,7 @@ import fr.hytale.loader.api.Player;
  * @version 1.0.7
  * @since 1.0.1
  */
-public class DamageBlockEvent implements IEvent<Void> {
+public class DamageBlockEvent implements IEvent<Void>, Cancellable {
 
     private final com.hypixel.hytale.server.core.event.events.ecs.DamageBlockEvent originalEvent;
     private final Player player;
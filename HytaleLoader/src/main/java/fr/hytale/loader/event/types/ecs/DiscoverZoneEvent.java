@@ -3,6 +3,7 @@ package fr.hytale.loader.event.types.ecs;
 import com.hypixel.hytale.event.IEvent;
 import com.hypixel.hytale.server.core.universe.world.WorldMapTracker;
 import fr.hytale.loader.api.Player;
+import fr.hytale.loader.event.Cancellable;
 
 /**
  * Called when a player discovers a new zone.
@@ -17,7 +18,7 @@ import fr.hytale.loader.api.Player;
  * @version 1.0.7
  * @since 1.0.1
  */
-public class DiscoverZoneEvent implements IEvent<Void> {
+public class DiscoverZoneEvent implements IEvent<Void>, Cancellable {
 
     private final com.hypixel.hytale.server.core.event.events.ecs.DiscoverZoneEvent.Display originalEvent;
     private final Player player;
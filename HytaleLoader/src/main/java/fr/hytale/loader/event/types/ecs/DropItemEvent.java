@@ -3,6 +3,7 @@ package fr.hytale.loader.event.types.ecs;
 import com.hypixel.hytale.event.IEvent;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import fr.hytale.loader.api.Player;
+import fr.hytale.loader.event.Cancellable;
 
 /**
  * Called when an item is dropped.
@@ -16,7 +17,7 @@ import fr.hytale.loader.api.Player;
  * @version 1.0.7
  * @since 1.0.1
  */
-public class DropItemEvent implements IEvent<Void> {
+public class DropItemEvent implements IEvent<Void>, Cancellable {
 
     private final com.hypixel.hytale.server.core.event.events.ecs.DropItemEvent.Drop originalEvent;
     private final Player player;
@@ -2,6 +2,7 @@ package fr.hytale.loader.event.types.ecs;
 
 import com.hypixel.hytale.event.IEvent;
 import fr.hytale.loader.api.Player;
+import fr.hytale.loader.event.Cancellable;
 
 /**
  * Called when a player switches their active hotbar slot.
@@ -16,7 +17,7 @@ import fr.hytale.loader.api.Player;
  * @version 1.0.7
  * @since 1.0.2
  */
-public class SwitchActiveSlotEvent implements IEvent<Void> {
+public class SwitchActiveSlotEvent implements IEvent<Void>, Cancellable {
 
     private final com.hypixel.hytale.server.core.event.events.ecs.SwitchActiveSlotEvent originalEvent;
     private final Player player;
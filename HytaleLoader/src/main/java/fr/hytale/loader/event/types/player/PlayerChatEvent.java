@@ -2,6 +2,7 @@ package fr.hytale.loader.event.types.player;
 
 import com.hypixel.hytale.event.IEvent;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
+import fr.hytale.loader.event.Cancellable;
 
 /**
  * Called when a player sends a chat message.
@@ -15,7 +16,7 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
  * @version 1.0.7
  * @since 1.0.0
  */
-public class PlayerChatEvent implements IEvent<Void> {
+public class PlayerChatEvent implements IEvent<Void>, Cancellable {
 
     private final com.hypixel.hytale.server.core.event.events.player.PlayerChatEvent originalEvent;
 
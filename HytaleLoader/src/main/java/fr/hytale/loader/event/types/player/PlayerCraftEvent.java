@@ -6,6 +6,7 @@ import com.hypixel.hytale.server.core.asset.type.item.config.CraftingRecipe;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import fr.hytale.loader.api.Player;
+import fr.hytale.loader.internal.PlayerRegistry;
 
 /**
  * Called when a player crafts an item.
@@ -36,7 +37,7 @@ public class PlayerCraftEvent implements IEvent<Void> {
 
     public Player getPlayer() {
         PlayerRef ref = originalEvent.getPlayer().getPlayerRef();
-        return new Player(this.originalEvent.getPlayer(), ref);
+        return PlayerRegistry.wrap(this.originalEvent.getPlayer(), ref);
     }
 
     public CraftingRecipe getCraftedRecipe() {
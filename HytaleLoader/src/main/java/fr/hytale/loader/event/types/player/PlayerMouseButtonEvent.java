@@ -7,6 +7,7 @@ import com.hypixel.hytale.protocol.Vector2f;
 import com.hypixel.hytale.server.core.asset.type.item.config.Item;
 import com.hypixel.hytale.server.core.entity.Entity;
 import fr.hytale.loader.api.Player;
+import fr.hytale.loader.event.Cancellable;
 
 /**
  * Called when a player clicks a mouse button.
@@ -20,7 +21,7 @@ import fr.hytale.loader.api.Player;
  * @version 1.0.7
  * @since 1.0.2
  */
-public class PlayerMouseButtonEvent implements IEvent<Void> {
+public class PlayerMouseButtonEvent implements IEvent<Void>, Cancellable {
 
     private final com.hypixel.hytale.server.core.event.events.player.PlayerMouseButtonEvent originalEvent;
     private final Player player;
@@ -0,0 +1,120 @@
+package fr.hytale.loader.internal;
+
+import com.hypixel.hytale.math.util.ChunkUtil;
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
+
+/**
+ * Low-level block access shared by the region tools.
+ * <p>
+ * Blocks are addressed by their integer asset index, which is what chunks
+ * store, instead of their string ID. Chunks are resolved once per column and
+ * then read or written directly, skipping the per-block chunk lookup of
+ * {@link fr.hytale.loader.api.World#getBlockIdentifier(int, int, int)}. All
+ * methods taking a chunk must be called on the world thread.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public final class BlockAccess {
+
+    /**
+     * Edge length of a chunk column, in blocks.
+     */
+    public static final int CHUNK_SIZE = 32;
+
+    /**
+     * Shift converting a block coordinate to a chunk coordinate.
+     */
+    public static final int CHUNK_SHIFT = 5;
+
+    /**
+     * Index of the empty block.
+     */
+    public static final int EMPTY = 0;
+
+    /**
+     * Returned by {@link #indexOf(String)} for unknown block IDs.
+     */
+    public static final int UNKNOWN = -1;
+
+    private BlockAccess() {
+        // Utility class
+    }
+
+    /**
+     * Gets a loaded chunk column.
+     *
+     * @param world  the native world
+     * @param chunkX the chunk X coordinate
+     * @param chunkZ the chunk Z coordinate
+     * @return the chunk, or null if it is not loaded
+     */
+    public static WorldChunk chunk(World world, int chunkX, int chunkZ) {
+        return world.getChunk(ChunkUtil.indexChunkFromBlock(chunkX << CHUNK_SHIFT, chunkZ << CHUNK_SHIFT));
+    }
+
+    /**
+     * Reads the block index at a position of a chunk.
+     *
+     * @param chunk the chunk containing the position
+     * @param x     the world X coordinate
+     * @param y     the world Y coordinate
+     * @param z     the world Z coordinate
+     * @return the block index
+     */
+    public static int get(WorldChunk chunk, int x, int y, int z) {
+        return chunk.getBlock(x, y, z);
+    }
+
+    /**
+     * Writes a block at a position of a chunk.
+     *
+     * @param chunk   the chunk containing the position
+     * @param x       the world X coordinate
+     * @param y       the world Y coordinate
+     * @param z       the world Z coordinate
+     * @param blockId the block ID
+     */
+    public static void set(WorldChunk chunk, int x, int y, int z, String blockId) {
+        chunk.setBlock(x, y, z, blockId);
+    }
+
+    /**
+     * Converts a block ID to its index.
+     *
+     * @param blockId the block ID
+     * @return the block index, or {@link #UNKNOWN}
+     */
+    public static int indexOf(String blockId) {
+        if (blockId == null) {
+            return UNKNOWN;
+        }
+        int index = BlockType.getAssetMap().getIndex(blockId);
+        return index >= 0 ? index : UNKNOWN;
+    }
+
+    /**
+     * Converts a block index to its ID.
+     *
+     * @param index the block index
+     * @return the block ID, or {@code "Empty"} if the index is unknown
+     */
+    public static String idOf(int index) {
+        BlockType type = index >= 0 ? BlockType.getAssetMap().getAsset(index) : null;
+        return type != null ? type.getId() : "Empty";
+    }
+
+    /**
+     * Gets the chunk coordinate of a block coordinate.
+     *
+     * @param blockCoordinate the block X or Z coordinate
+     * @return the chunk coordinate
+     */
+    public static int toChunk(int blockCoordinate) {
+        return blockCoordinate >> CHUNK_SHIFT;
+    }
+}
@@ -10,6 +10,9 @@ import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.event.events.ecs.BreakBlockEvent;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import fr.hytale.loader.event.ListenerRegistry;
+import fr.hytale.loader.event.batch.BreakBlockRecord;
+import fr.hytale.loader.event.batch.EventBatcher;
 
 import javax.annotation.Nonnull;
 
@@ -44,23 +47,49 @@ public class BreakBlockSystem extends EntityEventSystem<EntityStore, BreakBlockE
             @Nonnull CommandBuffer<EntityStore> commandBuffer,
             @Nonnull BreakBlockEvent event) {
 
+        boolean batched = EventBatcher.isActive(BreakBlockRecord.class);
+        if (!LoaderRuntime.isActive(this)
+                || (!batched && !ListenerRegistry
+                        .shouldDispatch(fr.hytale.loader.event.types.ecs.BreakBlockEvent.class))) {
+            return;
+        }
+
         fr.hytale.loader.api.Player playerWrapper = null;
+        PlayerRef playerRef = null;
 
         // Check if the entity is a player
         Player nativePlayer = chunk.getComponent(entityIndex, Player.getComponentType());
         if (nativePlayer != null) {
-            PlayerRef playerRef = chunk.getComponent(entityIndex, PlayerRef.getComponentType());
+            playerRef = chunk.getComponent(entityIndex, PlayerRef.getComponentType());
             if (playerRef != null) {
-                playerWrapper = new fr.hytale.loader.api.Player(nativePlayer, playerRef);
+                playerWrapper = PlayerRegistry.wrap(nativePlayer, playerRef);
             }
         }
 
-        // Create and dispatch our custom event
-        fr.hytale.loader.event.types.ecs.BreakBlockEvent newEvent = new fr.hytale.loader.event.types.ecs.BreakBlockEvent(
-                event, playerWrapper);
+        if (ListenerRegistry.hasListeners(fr.hytale.loader.event.types.ecs.BreakBlockEvent.class)) {
+            // Create and dispatch our custom event
+            fr.hytale.loader.event.types.ecs.BreakBlockEvent newEvent = new fr.hytale.loader.event.types.ecs.BreakBlockEvent(
+                    event, playerWrapper);
 
-        HytaleServer.get().getEventBus()
-                .dispatchFor(fr.hytale.loader.event.types.ecs.BreakBlockEvent.class, null)
-                .dispatch(newEvent);
+            HytaleServer.get().getEventBus()
+                    .dispatchFor(fr.hytale.loader.event.types.ecs.BreakBlockEvent.class, null)
+                    .dispatch(newEvent);
+        }
+
+        // Recorded after dispatch so batches see the final state of the event
+        if (batched) {
+            EntityStore entityStore = (EntityStore) store.getExternalData();
+            com.hypixel.hytale.server.core.universe.world.World world = entityStore != null ? entityStore.getWorld()
+                    : null;
+            com.hypixel.hytale.math.vector.Vector3i target = event.getTargetBlock();
+            EventBatcher.append(world, new BreakBlockRecord(
+                    System.currentTimeMillis(),
+                    world != null ? world.getName() : null,
+                    playerRef != null ? playerRef.getUuid() : null,
+                    target.getX(), target.getY(), target.getZ(),
+                    event.getBlockType() != null ? event.getBlockType().getId() : null,
+                    event.getItemInHand() != null ? event.getItemInHand().getItemId() : null,
+                    event.isCancelled()));
+        }
     }
 }
\ No newline at end of file
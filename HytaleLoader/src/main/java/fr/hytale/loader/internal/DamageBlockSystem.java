@@ -10,6 +10,9 @@ import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.event.events.ecs.DamageBlockEvent;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import fr.hytale.loader.event.ListenerRegistry;
+import fr.hytale.loader.event.batch.DamageBlockRecord;
+import fr.hytale.loader.event.batch.EventBatcher;
 
 import javax.annotation.Nonnull;
 
@@ -39,21 +42,47 @@ public class DamageBlockSystem extends EntityEventSystem<EntityStore, DamageBloc
             @Nonnull CommandBuffer<EntityStore> commandBuffer,
             @Nonnull DamageBlockEvent event) {
 
+        boolean batched = EventBatcher.isActive(DamageBlockRecord.class);
+        if (!LoaderRuntime.isActive(this)
+                || (!batched && !ListenerRegistry
+                        .shouldDispatch(fr.hytale.loader.event.types.ecs.DamageBlockEvent.class))) {
+            return;
+        }
+
         fr.hytale.loader.api.Player playerWrapper = null;
+        PlayerRef playerRef = null;
 
         Player nativePlayer = chunk.getComponent(entityIndex, Player.getComponentType());
         if (nativePlayer != null) {
-            PlayerRef playerRef = chunk.getComponent(entityIndex, PlayerRef.getComponentType());
+            playerRef = chunk.getComponent(entityIndex, PlayerRef.getComponentType());
             if (playerRef != null) {
-                playerWrapper = new fr.hytale.loader.api.Player(nativePlayer, playerRef);
+                playerWrapper = PlayerRegistry.wrap(nativePlayer, playerRef);
             }
         }
 
-        fr.hytale.loader.event.types.ecs.DamageBlockEvent newEvent = new fr.hytale.loader.event.types.ecs.DamageBlockEvent(
-                event, playerWrapper);
+        if (ListenerRegistry.hasListeners(fr.hytale.loader.event.types.ecs.DamageBlockEvent.class)) {
+            fr.hytale.loader.event.types.ecs.DamageBlockEvent newEvent = new fr.hytale.loader.event.types.ecs.DamageBlockEvent(
+                    event, playerWrapper);
 
-        HytaleServer.get().getEventBus()
-                .dispatchFor(fr.hytale.loader.event.types.ecs.DamageBlockEvent.class, null)
-                .dispatch(newEvent);
+            HytaleServer.get().getEventBus()
+                    .dispatchFor(fr.hytale.loader.event.types.ecs.DamageBlockEvent.class, null)
+                    .dispatch(newEvent);
+        }
+
+        // Recorded after dispatch so batches see the final state of the event
+        if (batched) {
+            EntityStore entityStore = (EntityStore) store.getExternalData();
+            com.hypixel.hytale.server.core.universe.world.World world = entityStore != null ? entityStore.getWorld()
+                    : null;
+            com.hypixel.hytale.math.vector.Vector3i target = event.getTargetBlock();
+            EventBatcher.append(world, new DamageBlockRecord(
+                    System.currentTimeMillis(),
+                    world != null ? world.getName() : null,
+                    playerRef != null ? playerRef.getUuid() : null,
+                    target.getX(), target.getY(), target.getZ(),
+                    event.getBlockType() != null ? event.getBlockType().getId() : null,
+                    event.getItemInHand() != null ? event.getItemInHand().getItemId() : null,
+                    event.getDamage(), event.isCancelled()));
+        }
     }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.modules.entity.damage.Damage;
 import com.hypixel.hytale.server.core.modules.entity.damage.DamageEventSystem;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import fr.hytale.loader.event.ListenerRegistry;
 import fr.hytale.loader.event.types.player.PlayerDamageEvent;
 import com.hypixel.hytale.component.Store;
 
@@ -39,13 +40,18 @@ public class DamageSystem extends DamageEventSystem {
     @Override
     public void handle(int index, ArchetypeChunk<EntityStore> chunk, Store<EntityStore> store,
             CommandBuffer<EntityStore> commandBuffer, Damage event) {
+        if (!LoaderRuntime.isActive(this)
+                || !ListenerRegistry.shouldDispatch(PlayerDamageEvent.class)) {
+            return;
+        }
+
         // Handle Victim is Player
         Player nativePlayer = chunk.getComponent(index, Player.getComponentType());
         if (nativePlayer != null) {
             PlayerRef playerRef = chunk.getComponent(index, PlayerRef.getComponentType());
             if (playerRef != null) {
-                // Create HytaleLoader Player wrapper
-                fr.hytale.loader.api.Player player = new fr.hytale.loader.api.Player(nativePlayer, playerRef);
+                // Get the shared HytaleLoader Player wrapper
+                fr.hytale.loader.api.Player player = PlayerRegistry.wrap(nativePlayer, playerRef);
                 PlayerDamageEvent damageEvent = new PlayerDamageEvent(player, event);
                 HytaleServer.get().getEventBus().dispatchFor(PlayerDamageEvent.class, null).dispatch(damageEvent);
             }
@@ -0,0 +1,72 @@
+package fr.hytale.loader.internal;
+
+import com.hypixel.hytale.component.Archetype;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import fr.hytale.loader.api.Entity;
+
+/**
+ * Creates API entity wrappers from ECS references.
+ * <p>
+ * Players are returned through {@link PlayerRegistry}, so they keep their
+ * shared wrapper. Other entities are wrapped around the first component of
+ * their archetype extending the native {@code Entity} class.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public final class EntityWrappers {
+
+    private EntityWrappers() {
+        // Utility class
+    }
+
+    /**
+     * Creates the wrapper of an entity. Must be called on the thread of the
+     * entity's world.
+     *
+     * @param ref the entity reference
+     * @return the wrapper, or null if the reference is invalid or is not an
+     *         entity
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public static Entity fromRef(Ref<EntityStore> ref) {
+        if (ref == null || !ref.isValid())
+            return null;
+
+        Store<EntityStore> store = ref.getStore();
+
+        // Try to get PlayerRef component
+        PlayerRef playerRef = (PlayerRef) store.getComponent(ref, PlayerRef.getComponentType());
+
+        if (playerRef != null) {
+            // It's a player, get the Native Player Entity
+            com.hypixel.hytale.server.core.entity.entities.Player nativePlayer = (com.hypixel.hytale.server.core.entity.entities.Player) store
+                    .getComponent(ref, com.hypixel.hytale.server.core.entity.entities.Player.getComponentType());
+            if (nativePlayer != null) {
+                return PlayerRegistry.wrap(nativePlayer, playerRef);
+            }
+        }
+
+        // It's a generic entity (or NPC). Find the Entity component.
+        Archetype<EntityStore> archetype = store.getArchetype(ref);
+        for (int i = archetype.getMinIndex(); i < archetype.length(); i++) {
+            ComponentType type = archetype.get(i);
+            if (type != null
+                    && com.hypixel.hytale.server.core.entity.Entity.class.isAssignableFrom(type.getTypeClass())) {
+                com.hypixel.hytale.server.core.entity.Entity nativeEntity = (com.hypixel.hytale.server.core.entity.Entity) store
+                        .getComponent(ref, type);
+                if (nativeEntity != null) {
+                    return new Entity(nativeEntity);
+                }
+            }
+        }
+
+        return null;
+    }
+}
@@ -0,0 +1,253 @@
+package fr.hytale.loader.internal;
+
+import com.hypixel.hytale.component.system.ISystem;
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.server.core.event.events.player.AddPlayerToWorldEvent;
+import com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent;
+import fr.hytale.loader.api.path.Pathfinder;
+import fr.hytale.loader.command.CommandScanner;
+import fr.hytale.loader.command.HandlerStatsCommand;
+import fr.hytale.loader.plugin.SimplePlugin;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+
+/**
+ * Process-wide HytaleLoader runtime shared by every {@link SimplePlugin}.
+ * <p>
+ * The native event bridges ({@link StandardEventDispatcher}), the internal
+ * ECS systems and the built-in commands are registered once, under a single host plugin, no matter how
+ * many HytaleLoader mods are installed. Plugins acquire the runtime when they
+ * start and release it when they shut down. If the host plugin shuts down
+ * while other plugins are still running, the bridges are registered again
+ * under one of them. The runtime is torn down when the last plugin releases
+ * it.
+ * </p>
+ * <p>
+ * The state is static, so it is only shared by plugins loading HytaleLoader
+ * through the same class loader: HytaleLoader must be deployed as the
+ * standalone plugin ({@link fr.hytale.loader.plugin.HytaleLoaderPlugin})
+ * rather than shaded into each mod.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public final class LoaderRuntime {
+
+    private static final Object LOCK = new Object();
+    private static final List<SimplePlugin> PLUGINS = new ArrayList<>();
+    private static final StandardEventDispatcher DISPATCHER = new StandardEventDispatcher();
+
+    private static volatile SimplePlugin host;
+    private static volatile Set<Object> activeSystems = Collections.emptySet();
+    private static volatile List<String> failedSystems = Collections.emptyList();
+
+    private LoaderRuntime() {
+        // Utility class
+    }
+
+    /**
+     * Registers a plugin with the runtime, installing the bridges if this is
+     * the first plugin.
+     *
+     * @param plugin the starting plugin
+     */
+    public static void acquire(SimplePlugin plugin) {
+        synchronized (LOCK) {
+            if (PLUGINS.contains(plugin)) {
+                return;
+            }
+            PLUGINS.add(plugin);
+            if (host == null) {
+                install(plugin);
+            }
+        }
+    }
+
+    /**
+     * Unregisters a plugin from the runtime.
+     * <p>
+     * If the plugin was hosting the bridges, they are moved to another running
+     * plugin, or torn down if none remain.
+     * </p>
+     *
+     * @param plugin the plugin shutting down
+     */
+    public static void release(SimplePlugin plugin) {
+        synchronized (LOCK) {
+            if (!PLUGINS.remove(plugin) || plugin != host) {
+                return;
+            }
+
+            // The host's registrations are removed by the server along with the plugin
+            host = null;
+            activeSystems = Collections.emptySet();
+            failedSystems = Collections.emptyList();
+
+            if (!PLUGINS.isEmpty()) {
+                install(PLUGINS.get(0));
+            } else {
+                teardown();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of plugins currently using the runtime.
+     *
+     * @return the plugin count
+     */
+    public static int getPluginCount() {
+        synchronized (LOCK) {
+            return PLUGINS.size();
+        }
+    }
+
+    /**
+     * Gets the plugin currently hosting the native bridges.
+     *
+     * @return the host plugin, or null if the runtime is not installed
+     */
+    public static SimplePlugin getHost() {
+        return host;
+    }
+
+    /**
+     * Gets the internal systems that could not be registered by the current
+     * installation. Their events are not dispatched.
+     *
+     * @return the simple class names of the failed systems, empty if every
+     *         system is registered
+     */
+    public static List<String> getFailedSystems() {
+        return failedSystems;
+    }
+
+    /**
+     * Checks if an internal system belongs to the current installation.
+     * <p>
+     * During a host hand-off, the previous host's systems may briefly remain
+     * registered. They use this check to stay silent so events are never
+     * dispatched twice.
+     * </p>
+     *
+     * @param system the internal system instance
+     * @return true if the system was registered by the current installation
+     *         and should dispatch events
+     */
+    public static boolean isActive(Object system) {
+        return activeSystems.contains(system);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes", "removal" })
+    private static void install(SimplePlugin plugin) {
+        host = plugin;
+        final SimplePlugin owner = plugin;
+
+        // Register for native Hytale events
+        plugin.getEventRegistry().registerGlobal(AddPlayerToWorldEvent.class, event -> {
+            if (isHost(owner)) {
+                DISPATCHER.onPlayerJoin(event);
+            }
+        });
+        plugin.getEventRegistry().registerGlobal(PlayerDisconnectEvent.class, event -> {
+            if (isHost(owner)) {
+                DISPATCHER.onPlayerQuit(event);
+            }
+        });
+        plugin.getEventRegistry().registerGlobal(
+                com.hypixel.hytale.server.core.event.events.player.PlayerCraftEvent.class, event -> {
+                    if (isHost(owner)) {
+                        DISPATCHER.onPlayerCraft(event);
+                    }
+                });
+        plugin.getEventRegistry().registerAsyncGlobal(
+                com.hypixel.hytale.server.core.event.events.player.PlayerChatEvent.class,
+                future -> ((CompletableFuture<com.hypixel.hytale.server.core.event.events.player.PlayerChatEvent>) future)
+                        .thenApply(event -> {
+                            if (isHost(owner)) {
+                                DISPATCHER.onPlayerChat(event);
+                            }
+                            return event;
+                        }));
+        plugin.getEventRegistry().registerGlobal(
+                com.hypixel.hytale.server.core.event.events.player.PlayerMouseButtonEvent.class, event -> {
+                    if (isHost(owner)) {
+                        DISPATCHER.onPlayerMouseButton(event);
+                    }
+                });
+        plugin.getEventRegistry().registerGlobal(
+                com.hypixel.hytale.server.core.event.events.player.PlayerMouseMotionEvent.class, event -> {
+                    if (isHost(owner)) {
+                        DISPATCHER.onPlayerMouseMotion(event);
+                    }
+                });
+
+        // Register core ECS systems
+        // These systems handle ECS events and dispatch them to the HytaleLoader event bus
+        List<ISystem> systems = List.of(
+                (ISystem) new DamageSystem(),
+                (ISystem) new BreakBlockSystem(),
+                (ISystem) new PlaceBlockSystem(),
+                (ISystem) new UseBlockSystem(),
+                (ISystem) new DamageBlockSystem(),
+                (ISystem) new DropItemSystem(),
+                (ISystem) new DiscoverZoneSystem(),
+                (ISystem) new CraftRecipeSystem(),
+                (ISystem) new SwitchActiveSlotSystem(),
+                (ISystem) new PlayerSnapshotSystem(),
+                (ISystem) new SpatialIndexSystem());
+
+        // Active before registration, as a system may be ticked as soon as it is registered
+        Set<Object> registered = Collections.newSetFromMap(new IdentityHashMap<>());
+        registered.addAll(systems);
+        activeSystems = registered;
+
+        Set<Object> working = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<String> failed = new ArrayList<>();
+        for (ISystem system : systems) {
+            try {
+                plugin.getEntityStoreRegistry().registerSystem(system);
+                working.add(system);
+            } catch (Exception e) {
+                failed.add(system.getClass().getSimpleName());
+                HytaleLogger.getLogger().at(Level.WARNING).log("[HytaleLoader] Could not register "
+                        + system.getClass().getSimpleName() + ": " + e.getMessage());
+            }
+        }
+        if (!failed.isEmpty()) {
+            activeSystems = working;
+        }
+        failedSystems = Collections.unmodifiableList(failed);
+
+        // Built-in commands
+        CommandScanner.registerCommands(plugin, new HandlerStatsCommand());
+
+        if (failed.isEmpty()) {
+            HytaleLogger.getLogger().at(Level.INFO)
+                    .log("[HytaleLoader] Runtime installed (host: " + plugin.getName() + ")");
+        } else {
+            HytaleLogger.getLogger().at(Level.WARNING).log("[HytaleLoader] Runtime installed (host: "
+                    + plugin.getName() + ") without " + String.join(", ", failed));
+        }
+    }
+
+    private static void teardown() {
+        PlayerRegistry.clear();
+        PlayerSnapshotSystem.clear();
+        SpatialIndex.clear();
+        Pathfinder.clearCache();
+        HytaleLogger.getLogger().at(Level.INFO).log("[HytaleLoader] Runtime torn down");
+    }
+
+    private static boolean isHost(SimplePlugin plugin) {
+        return host == plugin;
+    }
+}
@@ -10,6 +10,7 @@ import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.event.events.ecs.PlaceBlockEvent;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import fr.hytale.loader.event.ListenerRegistry;
 
 import javax.annotation.Nonnull;
 
@@ -39,13 +40,18 @@ public class PlaceBlockSystem extends EntityEventSystem<EntityStore, PlaceBlockE
             @Nonnull CommandBuffer<EntityStore> commandBuffer,
             @Nonnull PlaceBlockEvent event) {
 
+        if (!LoaderRuntime.isActive(this)
+                || !ListenerRegistry.shouldDispatch(fr.hytale.loader.event.types.ecs.PlaceBlockEvent.class)) {
+            return;
+        }
+
         fr.hytale.loader.api.Player playerWrapper = null;
 
         Player nativePlayer = chunk.getComponent(entityIndex, Player.getComponentType());
         if (nativePlayer != null) {
             PlayerRef playerRef = chunk.getComponent(entityIndex, PlayerRef.getComponentType());
             if (playerRef != null) {
-                playerWrapper = new fr.hytale.loader.api.Player(nativePlayer, playerRef);
+                playerWrapper = PlayerRegistry.wrap(nativePlayer, playerRef);
             }
         }
 
@@ -0,0 +1,195 @@
+package fr.hytale.loader.internal;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import fr.hytale.loader.api.Player;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Registry of the {@link Player} wrappers of online players.
+ * <p>
+ * One wrapper is created per {@link PlayerRef} when the player is added to a
+ * world and returned everywhere a wrapper is needed (events, commands, server
+ * lookups) until the player disconnects. This avoids allocating a new wrapper
+ * for every event and keeps wrapper identity stable, so mods can store
+ * per-player state in identity maps.
+ * </p>
+ * <p>
+ * If the native player entity behind a {@link PlayerRef} changes, a new
+ * wrapper replaces the old one.
+ * </p>
+ * <p>
+ * Wrappers are also indexed by lower-cased username in a sorted map, for
+ * case-insensitive exact lookups and prefix searches. Both indexes are
+ * updated under one lock shared by registration and eviction, so a lookup
+ * never returns a player who left. Players who left, or whose entity
+ * reference is no longer valid, are not registered again by late events.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public final class PlayerRegistry {
+
+    private static final Map<PlayerRef, Player> PLAYERS = new ConcurrentHashMap<>();
+    private static final NavigableMap<String, Player> NAMES = new ConcurrentSkipListMap<>();
+    // Evicted references, until they are collected
+    private static final Set<PlayerRef> DEPARTED = Collections.newSetFromMap(new WeakHashMap<>());
+    private static final Object LOCK = new Object();
+
+    private PlayerRegistry() {
+        // Utility class
+    }
+
+    /**
+     * Gets the wrapper of a player, creating and registering it if needed.
+     *
+     * @param nativePlayer the native player entity
+     * @param playerRef    the player reference
+     * @return the shared wrapper for this player
+     */
+    public static Player wrap(com.hypixel.hytale.server.core.entity.entities.Player nativePlayer,
+            PlayerRef playerRef) {
+        if (playerRef == null) {
+            return new Player(nativePlayer, null);
+        }
+
+        Player cached = PLAYERS.get(playerRef);
+        if (cached != null && (nativePlayer == null || cached.getNativePlayer() == nativePlayer)) {
+            return cached;
+        }
+
+        if (nativePlayer == null) {
+            // Incomplete wrapper (e.g. during disconnect): don't register it
+            return new Player(null, playerRef);
+        }
+
+        synchronized (LOCK) {
+            if (DEPARTED.contains(playerRef) || !isValid(playerRef)) {
+                // Left, or leaving: don't register it again
+                return new Player(nativePlayer, playerRef);
+            }
+
+            Player existing = PLAYERS.get(playerRef);
+            if (existing != null && existing.getNativePlayer() == nativePlayer) {
+                return existing;
+            }
+            Player player = new Player(nativePlayer, playerRef);
+            PLAYERS.put(playerRef, player);
+            String key = nameKey(playerRef.getUsername());
+            if (key != null) {
+                NAMES.put(key, player);
+            }
+            return player;
+        }
+    }
+
+    /**
+     * Gets the registered wrapper of a player.
+     *
+     * @param playerRef the player reference
+     * @return the wrapper, or null if the player is not registered
+     */
+    public static Player get(PlayerRef playerRef) {
+        return playerRef != null ? PLAYERS.get(playerRef) : null;
+    }
+
+    /**
+     * Removes a player from the registry. The player is not registered
+     * again afterwards.
+     *
+     * @param playerRef the player reference
+     * @return the removed wrapper, or null if the player was not registered
+     */
+    public static Player evict(PlayerRef playerRef) {
+        if (playerRef == null) {
+            return null;
+        }
+
+        synchronized (LOCK) {
+            DEPARTED.add(playerRef);
+            Player removed = PLAYERS.remove(playerRef);
+            String key = nameKey(playerRef.getUsername());
+            if (removed != null && key != null) {
+                NAMES.remove(key, removed);
+            }
+            return removed;
+        }
+    }
+
+    /**
+     * Gets the wrapper of a player by username (case-insensitive).
+     *
+     * @param name the username
+     * @return the wrapper, or null if no registered player has this name
+     */
+    public static Player getByName(String name) {
+        String key = nameKey(name);
+        return key != null ? NAMES.get(key) : null;
+    }
+
+    /**
+     * Gets the wrappers of the players whose username starts with a prefix
+     * (case-insensitive), sorted by username.
+     *
+     * @param prefix the username prefix; an empty prefix matches every player
+     * @param limit  the maximum number of players to return, or 0 for no limit
+     * @return the matching players
+     */
+    public static List<Player> getByPrefix(String prefix, int limit) {
+        String key = prefix != null ? prefix.toLowerCase(Locale.ROOT) : "";
+        // Every key starting with the prefix sorts between prefix and prefix + U+FFFF
+        Collection<Player> matches = NAMES.subMap(key, true, key + Character.MAX_VALUE, false).values();
+
+        List<Player> result = new ArrayList<>();
+        for (Player player : matches) {
+            if (limit > 0 && result.size() >= limit) {
+                break;
+            }
+            result.add(player);
+        }
+        return result;
+    }
+
+    /**
+     * Gets all registered wrappers.
+     *
+     * @return an unmodifiable view of the registered players
+     */
+    public static Collection<Player> getPlayers() {
+        return Collections.unmodifiableCollection(PLAYERS.values());
+    }
+
+    /**
+     * Removes every registered wrapper.
+     */
+    static void clear() {
+        synchronized (LOCK) {
+            PLAYERS.clear();
+            NAMES.clear();
+            DEPARTED.clear();
+        }
+    }
+
+    private static boolean isValid(PlayerRef playerRef) {
+        Ref<EntityStore> ref = playerRef.getReference();
+        return ref != null && ref.isValid();
+    }
+
+    private static String nameKey(String name) {
+        return name != null && !name.isEmpty() ? name.toLowerCase(Locale.ROOT) : null;
+    }
+}
@@ -0,0 +1,132 @@
+package fr.hytale.loader.internal;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatValue;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatsModule;
+import com.hypixel.hytale.server.core.modules.entitystats.asset.DefaultEntityStatTypes;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import fr.hytale.loader.api.PlayerSnapshot;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Internal ECS system capturing a {@link PlayerSnapshot} of every player once
+ * per tick.
+ * <p>
+ * The transform and core stats are copied on the world thread, where the
+ * components can be read safely, and the snapshot is published by replacing
+ * the player's previous one. Readers on other threads never lock nor wait on
+ * the world thread.
+ * </p>
+ * <p>
+ * Only players registered in {@link PlayerRegistry} are captured, so a tick
+ * running after a player quit cannot bring its snapshot back.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public class PlayerSnapshotSystem extends EntityTickingSystem<EntityStore> {
+
+    // ConcurrentHashMap writes are volatile publications of immutable snapshots
+    private static final Map<PlayerRef, PlayerSnapshot> SNAPSHOTS = new ConcurrentHashMap<>();
+
+    @Override
+    public Query<EntityStore> getQuery() {
+        return PlayerRef.getComponentType();
+    }
+
+    @Override
+    public void tick(
+            float dt,
+            int entityIndex,
+            @Nonnull ArchetypeChunk<EntityStore> chunk,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+
+        if (!LoaderRuntime.isActive(this)) {
+            return;
+        }
+
+        PlayerRef playerRef = chunk.getComponent(entityIndex, PlayerRef.getComponentType());
+        TransformComponent transform = chunk.getComponent(entityIndex, TransformComponent.getComponentType());
+        if (playerRef == null || transform == null || PlayerRegistry.get(playerRef) == null) {
+            return;
+        }
+
+        EntityStatMap stats = chunk.getComponent(entityIndex,
+                EntityStatsModule.get().getEntityStatMapComponentType());
+        EntityStore entityStore = (EntityStore) store.getExternalData();
+        com.hypixel.hytale.server.core.universe.world.World world = entityStore != null ? entityStore.getWorld()
+                : null;
+
+        PlayerSnapshot previous = SNAPSHOTS.get(playerRef);
+        com.hypixel.hytale.math.vector.Vector3d position = transform.getPosition();
+        com.hypixel.hytale.math.vector.Vector3f rotation = transform.getRotation();
+
+        SNAPSHOTS.put(playerRef, new PlayerSnapshot(
+                playerRef.getUuid(),
+                world != null ? world.getName() : null,
+                previous != null ? previous.getTick() + 1 : 1,
+                System.currentTimeMillis(),
+                position.getX(), position.getY(), position.getZ(),
+                rotation.getYaw(), rotation.getPitch(),
+                stat(stats, DefaultEntityStatTypes.getHealth()),
+                stat(stats, DefaultEntityStatTypes.getStamina()),
+                stat(stats, DefaultEntityStatTypes.getOxygen()),
+                stat(stats, DefaultEntityStatTypes.getMana()),
+                stat(stats, DefaultEntityStatTypes.getSignatureEnergy()),
+                stat(stats, DefaultEntityStatTypes.getAmmo())));
+
+        // The player may have quit since the check: the registry is evicted before the snapshots
+        if (PlayerRegistry.get(playerRef) == null) {
+            SNAPSHOTS.remove(playerRef);
+        }
+    }
+
+    /**
+     * Gets the latest snapshot of a player.
+     *
+     * @param playerRef the player reference
+     * @return the snapshot, or null if the player was not captured yet
+     */
+    public static PlayerSnapshot get(PlayerRef playerRef) {
+        return playerRef != null ? SNAPSHOTS.get(playerRef) : null;
+    }
+
+    /**
+     * Removes the snapshot of a disconnected player.
+     *
+     * @param playerRef the player reference
+     */
+    public static void evict(PlayerRef playerRef) {
+        if (playerRef != null) {
+            SNAPSHOTS.remove(playerRef);
+        }
+    }
+
+    /**
+     * Removes every snapshot.
+     */
+    static void clear() {
+        SNAPSHOTS.clear();
+    }
+
+    private static float stat(EntityStatMap stats, int statIndex) {
+        if (stats == null) {
+            return 0.0f;
+        }
+        EntityStatValue value = stats.get(statIndex);
+        return value != null ? value.get() : 0.0f;
+    }
+}
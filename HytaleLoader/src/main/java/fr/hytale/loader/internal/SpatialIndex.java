@@ -0,0 +1,354 @@
+package fr.hytale.loader.internal;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import fr.hytale.loader.api.Entity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Uniform grid of the entities of a world, for radius, box and nearest
+ * queries.
+ * <p>
+ * Entities are bucketed into cubic cells of {@value #CELL_SIZE} blocks.
+ * {@link SpatialIndexSystem} updates the index from the world thread every
+ * tick, and only touches the cell sets when an entity crosses a cell border.
+ * Queries can run from any thread: they only visit the cells overlapping the
+ * queried area, so their cost depends on the local entity density rather than
+ * on the world population. Positions are at most one tick old.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public final class SpatialIndex {
+
+    /**
+     * Edge length of a grid cell, in blocks.
+     */
+    public static final int CELL_SIZE = 16;
+
+    private static final int MIN_SWEEP_INTERVAL = 4096;
+    private static final Map<World, SpatialIndex> INDEXES = new ConcurrentHashMap<>();
+
+    private final Map<Ref<EntityStore>, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Entry>> cells = new ConcurrentHashMap<>();
+
+    // Written by the world thread only
+    private int updatesSinceSweep;
+
+    private SpatialIndex() {
+    }
+
+    /**
+     * Gets the index of a world.
+     *
+     * @param world the native world
+     * @return the index, or null if no entity of the world was indexed yet
+     */
+    public static SpatialIndex get(World world) {
+        return world != null ? INDEXES.get(world) : null;
+    }
+
+    static SpatialIndex forWorld(World world) {
+        return INDEXES.computeIfAbsent(world, k -> new SpatialIndex());
+    }
+
+    /**
+     * Removes every index.
+     */
+    static void clear() {
+        INDEXES.clear();
+    }
+
+    /**
+     * Records the position of an entity. Must be called on the world thread.
+     *
+     * @param ref the entity reference
+     * @param x   the X coordinate
+     * @param y   the Y coordinate
+     * @param z   the Z coordinate
+     */
+    void update(Ref<EntityStore> ref, double x, double y, double z) {
+        long cell = cellKey(cell(x), cell(y), cell(z));
+        Entry entry = entries.get(ref);
+
+        if (entry == null) {
+            // Resolved once; entities without a wrapper are kept so they are not resolved again
+            entry = new Entry(ref, EntityWrappers.fromRef(ref), new Position(x, y, z, cell));
+            entries.put(ref, entry);
+            cells.computeIfAbsent(cell, k -> ConcurrentHashMap.newKeySet()).add(entry);
+        } else {
+            Position previous = entry.position;
+            if (previous.x != x || previous.y != y || previous.z != z) {
+                entry.position = new Position(x, y, z, cell);
+                if (previous.cell != cell) {
+                    removeFromCell(previous.cell, entry);
+                    cells.computeIfAbsent(cell, k -> ConcurrentHashMap.newKeySet()).add(entry);
+                }
+            }
+        }
+
+        // Roughly once per second of updates, drop removed entities
+        if (++updatesSinceSweep >= Math.max(MIN_SWEEP_INTERVAL, entries.size() * 20)) {
+            updatesSinceSweep = 0;
+            sweep();
+        }
+    }
+
+    /**
+     * Gets the entities within a radius of a point.
+     *
+     * @param x      the X coordinate of the center
+     * @param y      the Y coordinate of the center
+     * @param z      the Z coordinate of the center
+     * @param radius the radius, in blocks
+     * @return the entities within the radius, in no particular order
+     */
+    public List<Entity> getNearby(double x, double y, double z, double radius) {
+        List<Entity> result = new ArrayList<>();
+        if (radius < 0) {
+            return result;
+        }
+
+        double radiusSquared = radius * radius;
+        for (Entry entry : candidates(x - radius, y - radius, z - radius, x + radius, y + radius, z + radius)) {
+            if (entry.isLive() && entry.position.distanceSquared(x, y, z) <= radiusSquared) {
+                result.add(entry.entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the entities inside an axis-aligned box.
+     *
+     * @param minX the minimum X coordinate
+     * @param minY the minimum Y coordinate
+     * @param minZ the minimum Z coordinate
+     * @param maxX the maximum X coordinate
+     * @param maxY the maximum Y coordinate
+     * @param maxZ the maximum Z coordinate
+     * @return the entities inside the box, in no particular order
+     */
+    public List<Entity> getInBox(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        List<Entity> result = new ArrayList<>();
+        for (Entry entry : candidates(minX, minY, minZ, maxX, maxY, maxZ)) {
+            Position p = entry.position;
+            if (entry.isLive() && p.x >= minX && p.x <= maxX && p.y >= minY && p.y <= maxY
+                    && p.z >= minZ && p.z <= maxZ) {
+                result.add(entry.entity);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the entities closest to a point.
+     * <p>
+     * Cells are visited in rings of growing distance around the point, and the
+     * search stops as soon as no unvisited cell can hold a closer entity.
+     * </p>
+     *
+     * @param x         the X coordinate of the center
+     * @param y         the Y coordinate of the center
+     * @param z         the Z coordinate of the center
+     * @param count     the maximum number of entities to return
+     * @param maxRadius the maximum distance of the entities, in blocks
+     * @return the closest entities, nearest first
+     */
+    public List<Entity> getNearest(double x, double y, double z, int count, double maxRadius) {
+        if (count <= 0 || maxRadius < 0) {
+            return new ArrayList<>();
+        }
+
+        double maxSquared = maxRadius * maxRadius;
+        // Farthest candidate on top, so it is the one replaced
+        PriorityQueue<Candidate> nearest = new PriorityQueue<>(
+                Comparator.comparingDouble((Candidate c) -> c.distanceSquared).reversed());
+
+        int maxRing = (int) Math.ceil(maxRadius / CELL_SIZE);
+        long cubeCells = (long) (2 * maxRing + 1) * (2 * maxRing + 1) * (2 * maxRing + 1);
+        if (cubeCells > entries.size()) {
+            // Sparse world: scanning every entity is cheaper than visiting the cells
+            for (Entry entry : entries.values()) {
+                offer(nearest, entry, x, y, z, count, maxSquared);
+            }
+            return drain(nearest);
+        }
+
+        int cx = cell(x);
+        int cy = cell(y);
+        int cz = cell(z);
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int dx = -ring; dx <= ring; dx++) {
+                for (int dy = -ring; dy <= ring; dy++) {
+                    boolean onShell = Math.abs(dx) == ring || Math.abs(dy) == ring;
+                    // Inside the shell, only the two cells at dz = +/-ring are new
+                    int step = onShell ? 1 : 2 * ring;
+                    for (int dz = -ring; dz <= ring; dz += step) {
+                        Set<Entry> bucket = cells.get(cellKey(cx + dx, cy + dy, cz + dz));
+                        if (bucket != null) {
+                            for (Entry entry : bucket) {
+                                offer(nearest, entry, x, y, z, count, maxSquared);
+                            }
+                        }
+                    }
+                }
+            }
+
+            // Every unvisited cell is at least ring * CELL_SIZE away
+            if (nearest.size() == count) {
+                double reach = (double) ring * CELL_SIZE;
+                if (nearest.peek().distanceSquared <= reach * reach) {
+                    break;
+                }
+            }
+        }
+        return drain(nearest);
+    }
+
+    /**
+     * Gets the number of indexed entities.
+     *
+     * @return the entity count, including entities removed since the last
+     *         sweep
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private Collection<Entry> candidates(double minX, double minY, double minZ, double maxX, double maxY,
+            double maxZ) {
+        int x0 = cell(minX), y0 = cell(minY), z0 = cell(minZ);
+        int x1 = cell(maxX), y1 = cell(maxY), z1 = cell(maxZ);
+
+        long cellCount = (long) (x1 - x0 + 1) * (y1 - y0 + 1) * (z1 - z0 + 1);
+        if (cellCount > entries.size()) {
+            // Area larger than the population: filtering every entity is cheaper
+            return entries.values();
+        }
+
+        List<Entry> result = new ArrayList<>();
+        for (int cx = x0; cx <= x1; cx++) {
+            for (int cy = y0; cy <= y1; cy++) {
+                for (int cz = z0; cz <= z1; cz++) {
+                    Set<Entry> bucket = cells.get(cellKey(cx, cy, cz));
+                    if (bucket != null) {
+                        result.addAll(bucket);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void offer(PriorityQueue<Candidate> nearest, Entry entry, double x, double y, double z,
+            int count, double maxSquared) {
+        if (!entry.isLive()) {
+            return;
+        }
+        double distanceSquared = entry.position.distanceSquared(x, y, z);
+        if (distanceSquared > maxSquared) {
+            return;
+        }
+        if (nearest.size() < count) {
+            nearest.add(new Candidate(entry.entity, distanceSquared));
+        } else if (distanceSquared < nearest.peek().distanceSquared) {
+            nearest.poll();
+            nearest.add(new Candidate(entry.entity, distanceSquared));
+        }
+    }
+
+    private static List<Entity> drain(PriorityQueue<Candidate> nearest) {
+        Entity[] sorted = new Entity[nearest.size()];
+        for (int i = sorted.length - 1; i >= 0; i--) {
+            sorted[i] = nearest.poll().entity;
+        }
+        return new ArrayList<>(List.of(sorted));
+    }
+
+    private void sweep() {
+        entries.values().removeIf(entry -> {
+            if (entry.ref.isValid()) {
+                return false;
+            }
+            removeFromCell(entry.position.cell, entry);
+            return true;
+        });
+        if (entries.isEmpty()) {
+            INDEXES.values().remove(this);
+        }
+    }
+
+    private void removeFromCell(long cell, Entry entry) {
+        cells.computeIfPresent(cell, (k, bucket) -> {
+            bucket.remove(entry);
+            return bucket.isEmpty() ? null : bucket;
+        });
+    }
+
+    private static int cell(double coordinate) {
+        return (int) Math.floor(coordinate / CELL_SIZE);
+    }
+
+    private static long cellKey(int cx, int cy, int cz) {
+        return ((long) (cx & 0x1FFFFF) << 42) | ((long) (cy & 0x1FFFFF) << 21) | (cz & 0x1FFFFF);
+    }
+
+    private static final class Entry {
+        private final Ref<EntityStore> ref;
+        private final Entity entity;
+        private volatile Position position;
+
+        private Entry(Ref<EntityStore> ref, Entity entity, Position position) {
+            this.ref = ref;
+            this.entity = entity;
+            this.position = position;
+        }
+
+        private boolean isLive() {
+            return entity != null && ref.isValid();
+        }
+    }
+
+    private static final class Position {
+        private final double x;
+        private final double y;
+        private final double z;
+        private final long cell;
+
+        private Position(double x, double y, double z, long cell) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.cell = cell;
+        }
+
+        private double distanceSquared(double px, double py, double pz) {
+            double dx = x - px;
+            double dy = y - py;
+            double dz = z - pz;
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    private static final class Candidate {
+        private final Entity entity;
+        private final double distanceSquared;
+
+        private Candidate(Entity entity, double distanceSquared) {
+            this.entity = entity;
+            this.distanceSquared = distanceSquared;
+        }
+    }
+}
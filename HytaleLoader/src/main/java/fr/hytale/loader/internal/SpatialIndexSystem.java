@@ -0,0 +1,55 @@
+package fr.hytale.loader.internal;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Internal ECS system keeping the {@link SpatialIndex} of each world up to
+ * date.
+ * <p>
+ * Every entity with a transform reports its position once per tick. The index
+ * ignores entities that did not move, so idle entities cost a single lookup.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public class SpatialIndexSystem extends EntityTickingSystem<EntityStore> {
+
+    @Override
+    public Query<EntityStore> getQuery() {
+        return TransformComponent.getComponentType();
+    }
+
+    @Override
+    public void tick(
+            float dt,
+            int entityIndex,
+            @Nonnull ArchetypeChunk<EntityStore> chunk,
+            @Nonnull Store<EntityStore> store,
+            @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+
+        if (!LoaderRuntime.isActive(this)) {
+            return;
+        }
+
+        TransformComponent transform = chunk.getComponent(entityIndex, TransformComponent.getComponentType());
+        EntityStore entityStore = (EntityStore) store.getExternalData();
+        if (transform == null || entityStore == null || entityStore.getWorld() == null) {
+            return;
+        }
+
+        Ref<EntityStore> ref = chunk.getReferenceTo(entityIndex);
+        com.hypixel.hytale.math.vector.Vector3d position = transform.getPosition();
+        SpatialIndex.forWorld(entityStore.getWorld()).update(ref, position.getX(), position.getY(), position.getZ());
+    }
+}
@@ -3,6 +3,8 @@ package fr.hytale.loader.internal;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import fr.hytale.loader.event.ListenerRegistry;
+import fr.hytale.loader.event.MouseMotionCoalescer;
 import fr.hytale.loader.event.SimpleListener;
 import fr.hytale.loader.event.types.player.PlayerJoinEvent;
 import fr.hytale.loader.event.types.player.PlayerQuitEvent;
@@ -41,15 +43,21 @@ public class StandardEventDispatcher implements SimpleListener {
         Player nativePlayer = event.getHolder().getComponent(Player.getComponentType());
         PlayerRef playerRef = event.getHolder().getComponent(PlayerRef.getComponentType());
 
-        if (nativePlayer != null && playerRef != null) {
-            // Create HytaleLoader Player wrapper
-            fr.hytale.loader.api.Player player = new fr.hytale.loader.api.Player(nativePlayer, playerRef);
-            PlayerJoinEvent newEvent = new PlayerJoinEvent(player, event);
-            HytaleServer.get().getEventBus().dispatchFor(PlayerJoinEvent.class, null).dispatch(newEvent);
-        } else {
+        if (nativePlayer == null || playerRef == null) {
             HytaleLogger.getLogger().at(java.util.logging.Level.WARNING)
                     .log("Player or PlayerRef is null in AddPlayerToWorldEvent");
+            return;
         }
+
+        // Always register the wrapper, even if nobody listens to PlayerJoinEvent
+        fr.hytale.loader.api.Player player = PlayerRegistry.wrap(nativePlayer, playerRef);
+
+        if (!ListenerRegistry.shouldDispatch(PlayerJoinEvent.class)) {
+            return;
+        }
+
+        PlayerJoinEvent newEvent = new PlayerJoinEvent(player, event);
+        HytaleServer.get().getEventBus().dispatchFor(PlayerJoinEvent.class, null).dispatch(newEvent);
     }
 
     /**
@@ -60,19 +68,21 @@ public class StandardEventDispatcher implements SimpleListener {
     public void onPlayerQuit(PlayerDisconnectEvent event) {
         PlayerRef playerRef = event.getPlayerRef();
 
-        Player nativePlayer = null;
         try {
-            nativePlayer = playerRef.getComponent(Player.getComponentType());
-        } catch (IllegalStateException e) {
-            HytaleLogger.getLogger().at(java.util.logging.Level.WARNING)
-                    .log("Could not get Player component during quit: " + e.getMessage());
-        } catch (Exception e) {
-
+            if (!ListenerRegistry.shouldDispatch(PlayerQuitEvent.class)) {
+                return;
+            }
+
+            // Not registered again, the player is evicted below
+            fr.hytale.loader.api.Player player = resolveWrapper(playerRef, "quit", false);
+
+            PlayerQuitEvent newEvent = new PlayerQuitEvent(player, event);
+            HytaleServer.get().getEventBus().dispatchFor(PlayerQuitEvent.class, null).dispatch(newEvent);
+        } finally {
+            PlayerRegistry.evict(playerRef);
+            MouseMotionCoalescer.evict(playerRef);
+            PlayerSnapshotSystem.evict(playerRef);
         }
-
-        fr.hytale.loader.api.Player player = new fr.hytale.loader.api.Player(nativePlayer, playerRef);
-        PlayerQuitEvent newEvent = new PlayerQuitEvent(player, event);
-        HytaleServer.get().getEventBus().dispatchFor(PlayerQuitEvent.class, null).dispatch(newEvent);
     }
 
     /**
@@ -84,6 +94,10 @@ public class StandardEventDispatcher implements SimpleListener {
     @Deprecated
     @SuppressWarnings("removal")
     public void onPlayerCraft(com.hypixel.hytale.server.core.event.events.player.PlayerCraftEvent event) {
+        if (!ListenerRegistry.shouldDispatch(fr.hytale.loader.event.types.player.PlayerCraftEvent.class)) {
+            return;
+        }
+
         HytaleLogger.getLogger().at(java.util.logging.Level.INFO).log("[HytaleLoader] PlayerCraftEvent received!");
         try {
             fr.hytale.loader.event.types.player.PlayerCraftEvent newEvent = new fr.hytale.loader.event.types.player.PlayerCraftEvent(
@@ -108,6 +122,10 @@ public class StandardEventDispatcher implements SimpleListener {
      * @param event the native player chat event
      */
     public void onPlayerChat(com.hypixel.hytale.server.core.event.events.player.PlayerChatEvent event) {
+        if (!ListenerRegistry.shouldDispatch(fr.hytale.loader.event.types.player.PlayerChatEvent.class)) {
+            return;
+        }
+
         HytaleLogger.getLogger().at(java.util.logging.Level.INFO).log("[HytaleLoader] PlayerChatEvent received!");
         fr.hytale.loader.event.types.player.PlayerChatEvent newEvent = new fr.hytale.loader.event.types.player.PlayerChatEvent(
                 event);
@@ -121,19 +139,14 @@ public class StandardEventDispatcher implements SimpleListener {
      * @param event the native player mouse button event
      */
     public void onPlayerMouseButton(com.hypixel.hytale.server.core.event.events.player.PlayerMouseButtonEvent event) {
+        if (!ListenerRegistry.shouldDispatch(PlayerMouseButtonEvent.class)) {
+            return;
+        }
+
         Ref<EntityStore> plrRef = event.getPlayerRef();
         PlayerRef playerRef = plrRef.getStore().getComponent(plrRef, PlayerRef.getComponentType());
 
-        Player nativePlayer = null;
-        try {
-            nativePlayer = playerRef.getComponent(Player.getComponentType());
-        } catch (IllegalStateException e) {
-            HytaleLogger.getLogger().at(java.util.logging.Level.WARNING)
-                    .log("Could not get Player component during quit: " + e.getMessage());
-        } catch (Exception e) {
-
-        }
-        fr.hytale.loader.api.Player player = new fr.hytale.loader.api.Player(nativePlayer, playerRef);
+        fr.hytale.loader.api.Player player = resolveWrapper(playerRef, "mouse button", true);
         PlayerMouseButtonEvent newEvent = new PlayerMouseButtonEvent(event, player);
         HytaleServer.get().getEventBus().dispatchFor(PlayerMouseButtonEvent.class, null).dispatch(newEvent);
     }
@@ -144,20 +157,53 @@ public class StandardEventDispatcher implements SimpleListener {
      * @param event the native player mouse motion event
      */
     public void onPlayerMouseMotion(com.hypixel.hytale.server.core.event.events.player.PlayerMouseMotionEvent event) {
+        boolean coalesced = MouseMotionCoalescer.hasSubscribers();
+        if (!coalesced && !ListenerRegistry.shouldDispatch(PlayerMouseMotionEvent.class)) {
+            return;
+        }
+
         Ref<EntityStore> plrRef = event.getPlayerRef();
         PlayerRef playerRef = plrRef.getStore().getComponent(plrRef, PlayerRef.getComponentType());
 
+        fr.hytale.loader.api.Player player = resolveWrapper(playerRef, "mouse motion", true);
+
+        // Coalesced handlers only get the latest event, flushed once per tick
+        if (coalesced) {
+            MouseMotionCoalescer.offer(player, event);
+        }
+
+        if (ListenerRegistry.hasListeners(PlayerMouseMotionEvent.class)) {
+            PlayerMouseMotionEvent newEvent = new PlayerMouseMotionEvent(event, player);
+            HytaleServer.get().getEventBus().dispatchFor(PlayerMouseMotionEvent.class, null).dispatch(newEvent);
+        }
+    }
+
+    /**
+     * Gets the registered wrapper of a player, or creates one from its
+     * native component if it is not registered.
+     *
+     * @param playerRef the player reference
+     * @param context   the event being handled, for the log message
+     * @param register  whether a created wrapper is added to the registry
+     * @return the player wrapper
+     */
+    private static fr.hytale.loader.api.Player resolveWrapper(PlayerRef playerRef, String context,
+            boolean register) {
+        fr.hytale.loader.api.Player player = PlayerRegistry.get(playerRef);
+        if (player != null) {
+            return player;
+        }
+
         Player nativePlayer = null;
         try {
             nativePlayer = playerRef.getComponent(Player.getComponentType());
         } catch (IllegalStateException e) {
             HytaleLogger.getLogger().at(java.util.logging.Level.WARNING)
-                    .log("Could not get Player component during quit: " + e.getMessage());
+                    .log("Could not get Player component during " + context + ": " + e.getMessage());
         } catch (Exception e) {
 
         }
-        fr.hytale.loader.api.Player player = new fr.hytale.loader.api.Player(nativePlayer, playerRef);
-        PlayerMouseMotionEvent newEvent = new PlayerMouseMotionEvent(event, player);
-        HytaleServer.get().getEventBus().dispatchFor(PlayerMouseMotionEvent.class, null).dispatch(newEvent);
+        return register ? PlayerRegistry.wrap(nativePlayer, playerRef)
+                : new fr.hytale.loader.api.Player(nativePlayer, playerRef);
     }
 }
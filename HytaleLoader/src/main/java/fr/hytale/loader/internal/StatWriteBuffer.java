@@ -0,0 +1,138 @@
+package fr.hytale.loader.internal;
+
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatMap;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatValue;
+import com.hypixel.hytale.server.core.modules.entitystats.EntityStatsModule;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Coalesces the stat writes of a player into one world-thread task.
+ * <p>
+ * Stat setters record their write here instead of queueing a task each. The
+ * first pending write schedules a single flush on the world thread, which
+ * looks up the store, reference and {@link EntityStatMap} once and applies
+ * every pending write. Writes to the same stat are merged:
+ * </p>
+ * <ul>
+ * <li>a set replaces any pending write (last write wins)</li>
+ * <li>an add is summed into the pending write, so a set followed by an add
+ * sets the sum</li>
+ * </ul>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public final class StatWriteBuffer {
+
+    private final com.hypixel.hytale.server.core.entity.entities.Player nativePlayer;
+
+    // Guarded by this; insertion order keeps writes applied in call order
+    private Map<Integer, Write> pending = new LinkedHashMap<>();
+
+    /**
+     * Creates the write buffer of a player.
+     *
+     * @param nativePlayer the native player entity
+     */
+    public StatWriteBuffer(com.hypixel.hytale.server.core.entity.entities.Player nativePlayer) {
+        this.nativePlayer = nativePlayer;
+    }
+
+    /**
+     * Sets a stat, replacing any pending write to it.
+     *
+     * @param statIndex the stat index from DefaultEntityStatTypes
+     * @param value     the new value
+     */
+    public void set(int statIndex, float value) {
+        record(statIndex, value, false);
+    }
+
+    /**
+     * Adds to a stat, on top of any pending write to it.
+     *
+     * @param statIndex the stat index from DefaultEntityStatTypes
+     * @param delta     the amount to add, may be negative
+     */
+    public void add(int statIndex, float delta) {
+        record(statIndex, delta, true);
+    }
+
+    private void record(int statIndex, float value, boolean additive) {
+        com.hypixel.hytale.server.core.universe.world.World world = nativePlayer != null ? nativePlayer.getWorld()
+                : null;
+        if (world == null) {
+            return;
+        }
+
+        boolean first;
+        synchronized (this) {
+            first = pending.isEmpty();
+            Write current = pending.get(statIndex);
+            if (current != null && additive) {
+                current.value += value;
+            } else {
+                pending.put(statIndex, new Write(value, additive));
+            }
+        }
+
+        if (first) {
+            // Runs with the world's queued tasks, after this tick's writes
+            world.execute(() -> flush(world));
+        }
+    }
+
+    private void flush(com.hypixel.hytale.server.core.universe.world.World world) {
+        Map<Integer, Write> writes;
+        synchronized (this) {
+            writes = pending;
+            pending = new LinkedHashMap<>();
+        }
+        if (writes.isEmpty()) {
+            return;
+        }
+
+        try {
+            Store<EntityStore> store = world.getEntityStore().getStore();
+            Ref<EntityStore> ref = nativePlayer.getReference();
+            if (ref == null || !ref.isValid()) {
+                return;
+            }
+
+            EntityStatMap entityStatMap = (EntityStatMap) store.getComponent(ref,
+                    EntityStatsModule.get().getEntityStatMapComponentType());
+            if (entityStatMap == null) {
+                return;
+            }
+
+            for (Map.Entry<Integer, Write> entry : writes.entrySet()) {
+                int statIndex = entry.getKey();
+                Write write = entry.getValue();
+                if (write.additive) {
+                    EntityStatValue current = entityStatMap.get(statIndex);
+                    entityStatMap.setStatValue(statIndex, (current != null ? current.get() : 0.0f) + write.value);
+                } else {
+                    entityStatMap.setStatValue(statIndex, write.value);
+                }
+            }
+        } catch (Exception e) {
+            // Silently fail, like the individual setters did
+        }
+    }
+
+    private static final class Write {
+        private float value;
+        private final boolean additive;
+
+        private Write(float value, boolean additive) {
+            this.value = value;
+            this.additive = additive;
+        }
+    }
+}
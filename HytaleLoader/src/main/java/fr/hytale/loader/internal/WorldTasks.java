@@ -0,0 +1,184 @@
+package fr.hytale.loader.internal;
+
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Runs reads on a world thread without blocking the caller.
+ * <p>
+ * Components of a world can only be accessed from its thread. The returned
+ * futures complete once the task ran there; if the caller already is on the
+ * world thread, the task runs inline instead of being queued, so a world
+ * never waits on itself.
+ * </p>
+ * <p>
+ * Thread ownership is checked up front with {@link World#isInThread()}, so
+ * the blocking variant picks the inline or queued path without first
+ * attempting the task and catching the world's thread assertion.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public final class WorldTasks {
+
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "HytaleLoader-WorldTimer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private WorldTasks() {
+        // Utility class
+    }
+
+    /**
+     * Computes a value on a world thread.
+     *
+     * @param world    the world owning the data
+     * @param task     the task to run on the world thread
+     * @param executor the executor completing the returned future, or null to
+     *                 complete it on the world thread
+     * @param <T>      the result type
+     * @return a future completed with the result of the task, or with null if
+     *         the world is unavailable
+     */
+    public static <T> CompletableFuture<T> supply(World world, Supplier<T> task, Executor executor) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (world == null) {
+            complete(future, null, null, executor);
+            return future;
+        }
+
+        if (world.isInThread()) {
+            run(future, task, executor);
+        } else {
+            world.execute(() -> run(future, task, executor));
+        }
+        return future;
+    }
+
+    /**
+     * Computes a value on a world thread and waits for it.
+     * <p>
+     * Runs the task inline if the caller is on the world thread, and otherwise
+     * queues it and blocks until it ran.
+     * </p>
+     *
+     * @param world the world owning the data
+     * @param task  the task to run on the world thread
+     * @param <T>   the result type
+     * @return the result of the task, or null if the world is unavailable
+     * @throws java.util.concurrent.CompletionException if the queued task
+     *                                                  failed
+     */
+    public static <T> T call(World world, Supplier<T> task) {
+        if (world == null) {
+            return null;
+        }
+        if (world.isInThread()) {
+            return task.get();
+        }
+        return supply(world, task, null).join();
+    }
+
+    /**
+     * Runs a task on a world thread in slices, until it reports it is done.
+     * <p>
+     * The first slice is queued immediately. After each slice returning true,
+     * the next one is queued again once the interval elapsed, so long jobs
+     * spread over several ticks instead of stalling one.
+     * </p>
+     * <p>
+     * The slices complete {@code owner} themselves. If a slice throws, or the
+     * world rejects a slice (for example because it stopped), {@code owner}
+     * completes exceptionally instead of never completing. Once
+     * {@code owner} is done, no further slice runs.
+     * </p>
+     *
+     * @param world          the world owning the data
+     * @param intervalMillis the delay between two slices, in milliseconds
+     * @param slice          the slice to run on the world thread, returning
+     *                       true while work remains
+     * @param owner          the future completed by the slices
+     */
+    public static void repeat(World world, long intervalMillis, BooleanSupplier slice,
+            CompletableFuture<?> owner) {
+        try {
+            world.execute(() -> {
+                if (owner.isDone()) {
+                    return;
+                }
+                boolean more;
+                try {
+                    more = slice.getAsBoolean();
+                } catch (Throwable t) {
+                    owner.completeExceptionally(t);
+                    return;
+                }
+                if (more) {
+                    TIMER.schedule(() -> repeat(world, intervalMillis, slice, owner), intervalMillis,
+                            TimeUnit.MILLISECONDS);
+                }
+            });
+        } catch (Exception e) {
+            // Rejected: fail the owner here rather than never completing it
+            owner.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Runs a task on a world thread after a delay.
+     * <p>
+     * The delay is spent on a shared timer thread, not on the world thread;
+     * the task is queued on the world once it elapsed.
+     * </p>
+     *
+     * @param world      the world owning the data
+     * @param delayNanos the delay before queueing the task, in nanoseconds
+     * @param task       the task to run on the world thread
+     */
+    public static void runLater(World world, long delayNanos, Runnable task) {
+        TIMER.schedule(() -> world.execute(task), delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static <T> void run(CompletableFuture<T> future, Supplier<T> task, Executor executor) {
+        T value;
+        try {
+            value = task.get();
+        } catch (Throwable t) {
+            complete(future, null, t, executor);
+            return;
+        }
+        complete(future, value, null, executor);
+    }
+
+    private static <T> void complete(CompletableFuture<T> future, T value, Throwable error, Executor executor) {
+        Runnable completion = () -> {
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else {
+                future.complete(value);
+            }
+        };
+
+        if (executor == null) {
+            completion.run();
+            return;
+        }
+        try {
+            executor.execute(completion);
+        } catch (Exception e) {
+            // Rejected (e.g. executor shut down): complete here rather than never
+            completion.run();
+        }
+    }
+}
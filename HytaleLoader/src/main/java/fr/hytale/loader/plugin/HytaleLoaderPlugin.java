@@ -0,0 +1,39 @@
+package fr.hytale.loader.plugin;
+
+import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
+
+/**
+ * Entry point of the standalone HytaleLoader plugin.
+ * <p>
+ * The shared runtime (event bridges, internal systems, built-in commands) is
+ * static, so it is only shared by mods loading HytaleLoader through the same
+ * class loader. Deploying HytaleLoader once as this plugin, and having mods
+ * depend on it instead of shading it, gives every mod the same runtime. This
+ * plugin acquires the runtime first and hosts it while mods come and go.
+ * </p>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+public class HytaleLoaderPlugin extends SimplePlugin {
+
+        /**
+         * Constructs the HytaleLoader plugin.
+         *
+         * @param init the plugin initialization data provided by the Hytale server
+         */
+        public HytaleLoaderPlugin(JavaPluginInit init) {
+                super(init);
+        }
+
+        @Override
+        public void onEnable() {
+                // The runtime is acquired by SimplePlugin.start()
+        }
+
+        @Override
+        public void onDisable() {
+                // The runtime is released by SimplePlugin.shutdown()
+        }
+}
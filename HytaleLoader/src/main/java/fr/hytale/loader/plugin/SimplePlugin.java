@@ -44,66 +44,8 @@ public abstract class SimplePlugin extends JavaPlugin implements SimpleListener
         protected void start() {
                 super.start();
 
-                // Register core event dispatcher for internal Hytale events
-                fr.hytale.loader.internal.StandardEventDispatcher dispatcher = new fr.hytale.loader.internal.StandardEventDispatcher();
-
-                // Register for native Hytale events
-                getEventRegistry().registerGlobal(
-                                com.hypixel.hytale.server.core.event.events.player.AddPlayerToWorldEvent.class,
-                                dispatcher::onPlayerJoin);
-                getLogger().at(java.util.logging.Level.INFO).log("[HytaleLoader] Registered AddPlayerToWorldEvent");
-                getEventRegistry().registerGlobal(
-                                com.hypixel.hytale.server.core.event.events.player.PlayerDisconnectEvent.class,
-                                dispatcher::onPlayerQuit);
-                getLogger().at(java.util.logging.Level.INFO).log("[HytaleLoader] Registered PlayerDisconnectEvent");
-
-                getEventRegistry().registerGlobal(
-                                com.hypixel.hytale.server.core.event.events.player.PlayerCraftEvent.class,
-                                dispatcher::onPlayerCraft);
-                getLogger().at(java.util.logging.Level.INFO).log("[HytaleLoader] Registered PlayerCraftEvent");
-
-                getEventRegistry().registerAsyncGlobal(
-                                com.hypixel.hytale.server.core.event.events.player.PlayerChatEvent.class,
-                                future -> ((java.util.concurrent.CompletableFuture<com.hypixel.hytale.server.core.event.events.player.PlayerChatEvent>) future)
-                                                .thenApply(event -> {
-                                                        dispatcher.onPlayerChat(event);
-                                                        return event;
-                                                }));
-                getLogger().at(java.util.logging.Level.INFO).log("[HytaleLoader] Registered PlayerChatEvent");
-
-                getEventRegistry().registerGlobal(
-                                com.hypixel.hytale.server.core.event.events.player.PlayerMouseButtonEvent.class,
-                                dispatcher::onPlayerMouseButton);
-                getLogger().at(java.util.logging.Level.INFO).log("[HytaleLoader] Registered PlayerMouseButtonEvent");
-
-                getEventRegistry().registerGlobal(
-                                com.hypixel.hytale.server.core.event.events.player.PlayerMouseMotionEvent.class,
-                                dispatcher::onPlayerMouseMotion);
-                getLogger().at(java.util.logging.Level.INFO).log("[HytaleLoader] Registered PlayerMouseMotionEvent");
-
-                // Register core ECS systems
-                // These systems handle ECS events and dispatch them to the HytaleLoader event
-                // bus
-                this.getEntityStoreRegistry().registerSystem(
-                                (com.hypixel.hytale.component.system.ISystem) new fr.hytale.loader.internal.DamageSystem());
-                this.getEntityStoreRegistry().registerSystem(
-                                (com.hypixel.hytale.component.system.ISystem) new fr.hytale.loader.internal.BreakBlockSystem());
-                this.getEntityStoreRegistry().registerSystem(
-                                (com.hypixel.hytale.component.system.ISystem) new fr.hytale.loader.internal.PlaceBlockSystem());
-                this.getEntityStoreRegistry().registerSystem(
-                                (com.hypixel.hytale.component.system.ISystem) new fr.hytale.loader.internal.UseBlockSystem());
-                this.getEntityStoreRegistry().registerSystem(
-                                (com.hypixel.hytale.component.system.ISystem) new fr.hytale.loader.internal.DamageBlockSystem());
-                this.getEntityStoreRegistry().registerSystem(
-                                (com.hypixel.hytale.component.system.ISystem) new fr.hytale.loader.internal.DropItemSystem());
-                this.getEntityStoreRegistry().registerSystem(
-                                (com.hypixel.hytale.component.system.ISystem) new fr.hytale.loader.internal.DiscoverZoneSystem());
-                this.getEntityStoreRegistry().registerSystem(
-                                (com.hypixel.hytale.component.system.ISystem) new fr.hytale.loader.internal.CraftRecipeSystem());
-                this.getEntityStoreRegistry().registerSystem(
-                                (com.hypixel.hytale.component.system.ISystem) new fr.hytale.loader.internal.SwitchActiveSlotSystem());
-
-                getLogger().at(java.util.logging.Level.INFO).log("[HytaleLoader] Registered ECS Systems");
+                // Native event bridges and ECS systems are shared by all HytaleLoader plugins
+                fr.hytale.loader.internal.LoaderRuntime.acquire(this);
 
                 // Auto register main class as listener and command container
                 EventScanner.registerListeners(this, this);
@@ -114,6 +56,12 @@ public abstract class SimplePlugin extends JavaPlugin implements SimpleListener
         @Override
         protected void shutdown() {
                 onDisable();
+                fr.hytale.loader.event.ListenerRegistry.releaseAll(this);
+                fr.hytale.loader.event.MouseMotionCoalescer.releaseAll(this);
+                fr.hytale.loader.event.HandlerMetrics.releaseAll(this);
+                fr.hytale.loader.event.FilteredEventRouter.releaseAll(this);
+                fr.hytale.loader.event.batch.EventBatcher.releaseAll(this);
+                fr.hytale.loader.internal.LoaderRuntime.release(this);
                 scheduler.shutdown();
                 super.shutdown();
         }
@@ -0,0 +1,396 @@
+package fr.hytale.loader.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor generating registration indexes for
+ * {@code @EventHandler}, {@code @BatchEventHandler} and {@code @Command}
+ * methods.
+ * <p>
+ * For every class declaring handlers, this processor writes a
+ * {@code <Class>$$HLEventIndex} implementing
+ * {@link fr.hytale.loader.event.HandlerIndex} and/or a
+ * {@code <Class>$$HLCommandIndex} implementing
+ * {@link fr.hytale.loader.command.CommandIndex}. Event indexes contain a
+ * direct invoker for each accessible handler, so
+ * {@link fr.hytale.loader.event.EventScanner} and
+ * {@link fr.hytale.loader.command.CommandScanner} do not need to read
+ * annotations or scan methods when the plugin starts.
+ * </p>
+ * <p>
+ * The processor is registered through {@code META-INF/services} and only
+ * reads annotation mirrors, so the Hytale server does not need to be on the
+ * annotation processor path.
+ * </p>
+ *
+ * <h2>Gradle Setup:</h2>
+ *
+ * <pre>{@code
+ * dependencies {
+ *     implementation 'fr.hytale.loader:HytaleLoader:1.0.7'
+ *     annotationProcessor 'fr.hytale.loader:HytaleLoader:1.0.7'
+ * }
+ * }</pre>
+ *
+ * @author HytaleLoader
+ * @version 1.0.7
+ * @since 1.0.7
+ */
+@SupportedAnnotationTypes({
+        RegistrationIndexProcessor.EVENT_HANDLER,
+        RegistrationIndexProcessor.BATCH_EVENT_HANDLER,
+        RegistrationIndexProcessor.COMMAND
+})
+public class RegistrationIndexProcessor extends AbstractProcessor {
+
+    static final String EVENT_HANDLER = "fr.hytale.loader.event.EventHandler";
+    static final String BATCH_EVENT_HANDLER = "fr.hytale.loader.event.BatchEventHandler";
+    static final String COMMAND = "fr.hytale.loader.command.Command";
+
+    private static final String EVENT_SUFFIX = "$$HLEventIndex";
+    private static final String COMMAND_SUFFIX = "$$HLCommandIndex";
+    private static final String PRIORITY_TYPE = "com.hypixel.hytale.event.EventPriority";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Map<TypeElement, List<ExecutableElement>> handlers = new LinkedHashMap<>();
+        Map<TypeElement, List<ExecutableElement>> batchHandlers = new LinkedHashMap<>();
+        Map<TypeElement, List<ExecutableElement>> commands = new LinkedHashMap<>();
+
+        for (TypeElement annotation : annotations) {
+            String name = annotation.getQualifiedName().toString();
+            Map<TypeElement, List<ExecutableElement>> target = EVENT_HANDLER.equals(name) ? handlers
+                    : BATCH_EVENT_HANDLER.equals(name) ? batchHandlers
+                            : COMMAND.equals(name) ? commands : null;
+            if (target == null) {
+                continue;
+            }
+
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() != ElementKind.METHOD) {
+                    continue;
+                }
+                TypeElement owner = (TypeElement) element.getEnclosingElement();
+                target.computeIfAbsent(owner, k -> new ArrayList<>()).add((ExecutableElement) element);
+            }
+        }
+
+        Set<TypeElement> listeners = new LinkedHashSet<>(handlers.keySet());
+        listeners.addAll(batchHandlers.keySet());
+        for (TypeElement owner : listeners) {
+            writeEventIndex(owner, handlers.getOrDefault(owner, List.of()),
+                    batchHandlers.getOrDefault(owner, List.of()));
+        }
+        commands.forEach(this::writeCommandIndex);
+        return false;
+    }
+
+    // === Event Index ===
+
+    private void writeEventIndex(TypeElement owner, List<ExecutableElement> methods,
+            List<ExecutableElement> batchMethods) {
+        if (!isIndexable(owner)) {
+            return;
+        }
+
+        String ownerName = owner.getQualifiedName().toString();
+        StringBuilder entries = new StringBuilder();
+
+        for (ExecutableElement method : methods) {
+            if (method.getParameters().size() != 1) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        "@EventHandler method must have exactly 1 event parameter", method);
+                continue;
+            }
+
+            String eventType = erasure(method.getParameters().get(0).asType());
+            String priority = enumValue(method, EVENT_HANDLER, "priority", "NORMAL");
+            String invoker = invoker(ownerName, method, eventType);
+
+            if (entries.length() > 0) {
+                entries.append(",\n");
+            }
+            entries.append("                new fr.hytale.loader.event.IndexedHandler(")
+                    .append(literal(method.getSimpleName().toString())).append(", ")
+                    .append(eventType).append(".class, ")
+                    .append(PRIORITY_TYPE).append('.').append(priority).append(", ")
+                    .append(invoker).append(", ")
+                    .append(booleanValue(method, EVENT_HANDLER, "coalesce")).append(", ")
+                    .append(booleanValue(method, EVENT_HANDLER, "ignoreCancelled")).append(", ")
+                    .append("new String[] { ").append(stringArray(method, EVENT_HANDLER, "blocks")).append(" }, ")
+                    .append("new String[] { ").append(stringArray(method, EVENT_HANDLER, "items")).append(" })");
+        }
+
+        StringBuilder batchEntries = new StringBuilder();
+
+        for (ExecutableElement method : batchMethods) {
+            String recordType = recordType(method);
+            if (recordType == null) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        "@BatchEventHandler method must have exactly 1 List<RecordType> parameter", method);
+                continue;
+            }
+
+            if (batchEntries.length() > 0) {
+                batchEntries.append(",\n");
+            }
+            batchEntries.append("                new fr.hytale.loader.event.IndexedBatchHandler(")
+                    .append(literal(method.getSimpleName().toString())).append(", ")
+                    .append(recordType).append(".class, ")
+                    .append(intValue(method, BATCH_EVENT_HANDLER, "maxSize")).append(", ")
+                    .append(invoker(ownerName, method, "java.util.List")).append(')');
+        }
+
+        StringBuilder body = new StringBuilder();
+        body.append("public final class ").append(indexName(owner, EVENT_SUFFIX))
+                .append(" implements fr.hytale.loader.event.HandlerIndex {\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.List<fr.hytale.loader.event.IndexedHandler> getHandlers(Object listener) {\n")
+                .append("        final ").append(ownerName).append(" target = (").append(ownerName)
+                .append(") listener;\n")
+                .append("        return java.util.List.of(\n")
+                .append(entries).append(");\n")
+                .append("    }\n")
+                .append("\n")
+                .append("    @Override\n")
+                .append("    public java.lang.invoke.MethodHandles.Lookup lookup() {\n")
+                .append("        return java.lang.invoke.MethodHandles.lookup();\n")
+                .append("    }\n");
+
+        if (batchEntries.length() > 0) {
+            body.append("\n")
+                    .append("    @Override\n")
+                    .append("    public java.util.List<fr.hytale.loader.event.IndexedBatchHandler> getBatchHandlers(Object listener) {\n")
+                    .append("        final ").append(ownerName).append(" target = (").append(ownerName)
+                    .append(") listener;\n")
+                    .append("        return java.util.List.of(\n")
+                    .append(batchEntries).append(");\n")
+                    .append("    }\n");
+        }
+        body.append("}\n");
+
+        write(owner, EVENT_SUFFIX, body);
+    }
+
+    // === Command Index ===
+
+    private void writeCommandIndex(TypeElement owner, List<ExecutableElement> methods) {
+        if (!isIndexable(owner)) {
+            return;
+        }
+
+        StringBuilder entries = new StringBuilder();
+
+        for (ExecutableElement method : methods) {
+            AnnotationMirror mirror = findAnnotation(method, COMMAND);
+            if (mirror == null) {
+                continue;
+            }
+
+            StringBuilder parameterTypes = new StringBuilder();
+            for (VariableElement parameter : method.getParameters()) {
+                if (parameterTypes.length() > 0) {
+                    parameterTypes.append(", ");
+                }
+                parameterTypes.append(erasure(parameter.asType())).append(".class");
+            }
+
+            if (entries.length() > 0) {
+                entries.append(",\n");
+            }
+            entries.append("                new fr.hytale.loader.command.IndexedCommand(")
+                    .append(literal(stringValue(method, "name", ""))).append(", ")
+                    .append(literal(stringValue(method, "description", ""))).append(", ")
+                    .append("new String[] { ").append(stringArray(method, COMMAND, "aliases")).append(" }, ")
+                    .append(literal(stringValue(method, "permission", ""))).append(", ")
+                    .append(booleanValue(method, COMMAND, "requiresConfirmation")).append(", ")
+                    .append(literal(method.getSimpleName().toString())).append(", ")
+                    .append("new Class<?>[] { ").append(parameterTypes).append(" })");
+        }
+
+        StringBuilder body = new StringBuilder();
+        body.append("public final class ").append(indexName(owner, COMMAND_SUFFIX))
+                .append(" implements fr.hytale.loader.command.CommandIndex {\n\n")
+                .append("    @Override\n")
+                .append("    public java.util.List<fr.hytale.loader.command.IndexedCommand> getCommands() {\n")
+                .append("        return java.util.List.of(\n")
+                .append(entries).append(");\n")
+                .append("    }\n")
+                .append("}\n");
+
+        write(owner, COMMAND_SUFFIX, body);
+    }
+
+    // === Helpers ===
+
+    /**
+     * Checks if generated code in the same package can reference the class.
+     */
+    private boolean isIndexable(TypeElement owner) {
+        Element current = owner;
+        while (current instanceof TypeElement) {
+            TypeElement type = (TypeElement) current;
+            if (type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS
+                    || type.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            current = current.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void write(TypeElement owner, String suffix, StringBuilder body) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(owner);
+        String packageName = pkg.isUnnamed() ? "" : pkg.getQualifiedName().toString();
+        String simpleName = indexName(owner, suffix);
+        String fileName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(fileName, owner).openWriter()) {
+            if (!packageName.isEmpty()) {
+                writer.write("package " + packageName + ";\n\n");
+            }
+            writer.write("// Generated by HytaleLoader. Do not edit.\n");
+            writer.write("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n");
+            writer.write(body.toString());
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Failed to write HytaleLoader index: " + e.getMessage(), owner);
+        }
+    }
+
+    private String indexName(TypeElement owner, String suffix) {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(owner).toString();
+        return binaryName.substring(binaryName.lastIndexOf('.') + 1) + suffix;
+    }
+
+    /**
+     * Builds the invoker lambda of a handler, or "null" if generated code
+     * cannot call it.
+     */
+    private String invoker(String ownerName, ExecutableElement method, String parameterType) {
+        if (method.getModifiers().contains(Modifier.PRIVATE)) {
+            return "null";
+        }
+        String receiver = method.getModifiers().contains(Modifier.STATIC) ? ownerName : "target";
+        return "event -> " + receiver + "." + method.getSimpleName() + "((" + parameterType + ") event)";
+    }
+
+    /**
+     * Gets the erased element type of a {@code method(List<RecordType>)}
+     * batch handler.
+     */
+    private String recordType(ExecutableElement method) {
+        if (method.getParameters().size() != 1) {
+            return null;
+        }
+        TypeMirror type = method.getParameters().get(0).asType();
+        if (!(type instanceof DeclaredType) || !"java.util.List".equals(erasure(type))) {
+            return null;
+        }
+        List<? extends TypeMirror> arguments = ((DeclaredType) type).getTypeArguments();
+        if (arguments.size() != 1 || arguments.get(0).getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return erasure(arguments.get(0));
+    }
+
+    private String erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private String literal(String value) {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private AnnotationMirror findAnnotation(Element element, String annotationType) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            Element type = mirror.getAnnotationType().asElement();
+            if (((TypeElement) type).getQualifiedName().contentEquals(annotationType)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private AnnotationValue findValue(Element element, String annotationType, String name) {
+        AnnotationMirror mirror = findAnnotation(element, annotationType);
+        if (mirror == null) {
+            return null;
+        }
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues()
+                .entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private String enumValue(Element element, String annotationType, String name, String defaultValue) {
+        AnnotationValue value = findValue(element, annotationType, name);
+        if (value != null && value.getValue() instanceof VariableElement) {
+            return ((VariableElement) value.getValue()).getSimpleName().toString();
+        }
+        return defaultValue;
+    }
+
+    private String stringValue(Element element, String name, String defaultValue) {
+        AnnotationValue value = findValue(element, COMMAND, name);
+        return value != null ? String.valueOf(value.getValue()) : defaultValue;
+    }
+
+    private boolean booleanValue(Element element, String annotationType, String name) {
+        AnnotationValue value = findValue(element, annotationType, name);
+        return value != null && Boolean.TRUE.equals(value.getValue());
+    }
+
+    private int intValue(Element element, String annotationType, String name) {
+        AnnotationValue value = findValue(element, annotationType, name);
+        return value != null && value.getValue() instanceof Integer ? (Integer) value.getValue() : 0;
+    }
+
+    private String stringArray(Element element, String annotationType, String name) {
+        AnnotationValue value = findValue(element, annotationType, name);
+        if (value == null || !(value.getValue() instanceof List)) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        for (Object entry : (List<?>) value.getValue()) {
+            if (builder.length() > 0) {
+                builder.append(", ");
+            }
+            builder.append(literal(String.valueOf(((AnnotationValue) entry).getValue())));
+        }
+        return builder.toString();
+    }
+}
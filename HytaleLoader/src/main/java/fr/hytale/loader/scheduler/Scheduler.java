@@ -149,6 +149,25 @@ public class Scheduler {
         }, asyncExecutor);
     }
 
+    /**
+     * Gets the executor running async tasks.
+     * <p>
+     * Can be passed to the {@code ...Async(Executor)} methods of the API so
+     * their results are handled off the world thread.
+     * </p>
+     * 
+     * <pre>{@code
+     * player.getHealthAsync(getScheduler().getAsyncExecutor())
+     *         .thenAccept(health -> database.save(player.getUUID(), health));
+     * }</pre>
+     * 
+     * @return the async executor
+     * @since 1.0.7
+     */
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
     /**
      * Cancels all scheduled tasks and shuts down the scheduler.
      * <p>